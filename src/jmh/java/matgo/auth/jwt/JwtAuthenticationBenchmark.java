@@ -0,0 +1,85 @@
+package matgo.auth.jwt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증 필터가 요청마다 access token 을 Authentication 으로 바꾸는 비용
+ * legacy 는 기존 방식(요청마다 parser 두 번 생성 + 두 번 파싱), singleParse 는 캐시 없이 한 번 파싱, cached 는 캐시 hit 이다.
+ * 할당량은 -Pjmh.profilers=gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-secret-key-must-be-at-least-256-bits";
+
+    private SecretKey key;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(UTF_8));
+        // ttl 0 이면 항목이 바로 만료되므로 매번 파싱한다.
+        uncachedProvider = new JwtTokenProvider(SECRET, null,
+          new JwtAuthenticationCache(new SimpleMeterRegistry(), 0, 10_000));
+        cachedProvider = new JwtTokenProvider(SECRET, null,
+          new JwtAuthenticationCache(new SimpleMeterRegistry(), 30, 10_000));
+    }
+
+    // access token 유효기간이 1분이라 iteration 마다 새로 발급한다.
+    @Setup(Level.Iteration)
+    public void issueToken() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+          new User("1", "", authorities), null, authorities);
+        accessToken = cachedProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder()
+                            .setSigningKey(key)
+                            .build()
+                            .parseClaimsJws(accessToken)
+                            .getBody();
+        List<SimpleGrantedAuthority> authorities =
+          Collections.singletonList(new SimpleGrantedAuthority(claims.get("role").toString()));
+        return new UsernamePasswordAuthenticationToken(new User(claims.getSubject(), "", authorities), accessToken,
+          authorities);
+    }
+
+    @Benchmark
+    public Authentication singleParse() {
+        return uncachedProvider.authenticateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cached() {
+        return cachedProvider.authenticateAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,54 @@
+package matgo.auth.jwt;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 인증 필터의 화이트리스트 매칭 비용 (요청 경로 묶음 한 번을 모두 매칭하는 시간)
+ * 경로는 인증이 필요한 요청과 화이트리스트 요청을 섞었고, 앞쪽 패턴에 걸리는 경로와 끝까지 비교해야 하는 경로를 모두 넣었다.
+ * 할당량은 -Pjmh.profilers=gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WhitelistMatcherBenchmark {
+
+    private static final String[] PATHS = {
+      "/api/reviews/12",
+      "/api/restaurants/detail/4821",
+      "/api/restaurants/search",
+      "/api/posts",
+      "/api/posts/381",
+      "/api/comments/381",
+      "/api/reviews/12/reactions/me",
+      "/api/member/me",
+      "/api/auth/login",
+      "/docs/swagger-ui/index.html",
+    };
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final PathPatternTrie pathPatternTrie = new PathPatternTrie(JwtTokenFilter.WHITELIST);
+
+    @Benchmark
+    public void antPathMatcher(Blackhole blackhole) {
+        for (String path : PATHS) {
+            blackhole.consume(Arrays.stream(JwtTokenFilter.WHITELIST)
+                                    .anyMatch(pattern -> antPathMatcher.match(pattern, path)));
+        }
+    }
+
+    @Benchmark
+    public void pathPatternTrie(Blackhole blackhole) {
+        for (String path : PATHS) {
+            blackhole.consume(pathPatternTrie.matches(path));
+        }
+    }
+}
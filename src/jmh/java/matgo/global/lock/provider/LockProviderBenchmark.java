@@ -0,0 +1,78 @@
+package matgo.global.lock.provider;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+/**
+ * lock provider 별 lock -> 짧은 작업 -> unlock 처리량
+ * keys 가 1 이면 모든 스레드가 같은 key 를 두고 경쟁하고, 1024 면 거의 경쟁하지 않는다.
+ * redis, hybrid 는 -Pjmh.redis.address (기본값 redis://localhost:6379) 의 redis 가 필요하다. (docker/docker-compose.yml 의 matgo-redis)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LockProviderBenchmark {
+
+    @Param({"local", "hybrid", "redis"})
+    private String provider;
+
+    @Param({"1", "1024"})
+    private int keys;
+
+    private RedissonClient redissonClient;
+    private LockProvider lockProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (provider.equals("local")) {
+            lockProvider = new StripedLocalLockProvider(1024);
+            return;
+        }
+
+        Config config = new Config();
+        config.useSingleServer()
+              .setAddress(System.getProperty("jmh.redis.address", "redis://localhost:6379"));
+        redissonClient = Redisson.create(config);
+        RedisLockProvider redisLockProvider = new RedisLockProvider(redissonClient);
+        lockProvider = provider.equals("redis")
+          ? redisLockProvider
+          : new HybridLockProvider(new StripedLocalLockProvider(1024), redisLockProvider);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (redissonClient != null) {
+            redissonClient.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void lockAndUnlock(Blackhole blackhole) throws InterruptedException {
+        LockHandle lock = lockProvider.getLock("benchmark-" + ThreadLocalRandom.current().nextInt(keys));
+        if (!lock.tryLock(5, -1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("lock timeout");
+        }
+        try {
+            Blackhole.consumeCPU(100);
+        } finally {
+            lock.unlock();
+        }
+        blackhole.consume(lock);
+    }
+}
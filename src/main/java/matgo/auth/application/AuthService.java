@@ -5,19 +5,19 @@ import static matgo.global.exception.ErrorCode.UNAUTHORIZED;
 import static matgo.global.exception.ErrorCode.WRONG_PASSWORD;
 
 import lombok.RequiredArgsConstructor;
-import matgo.auth.domain.entity.Token;
-import matgo.auth.domain.repository.TokenRepository;
 import matgo.auth.dto.request.LoginRequest;
 import matgo.auth.dto.request.SendTemporaryPasswordRequest;
 import matgo.auth.dto.response.LoginResponse;
 import matgo.auth.exception.AuthException;
 import matgo.auth.jwt.JwtTokenProvider;
 import matgo.auth.security.CustomUserDetailService;
+import matgo.auth.security.MemberPrincipal;
 import matgo.global.util.SecurityUtil;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,27 +28,41 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final TokenRepository tokenRepository;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailService customUserDetailService;
     private final TokenService tokenService;
     private final MailService mailService;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginRateLimiter loginRateLimiter;
 
 
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        loginRateLimiter.acquire(request.email(), clientIp);
         UserDetails userDetails = getUserDetails(request);
         checkRole(request.role().name(), userDetails.getAuthorities().iterator().next().getAuthority());
         checkPassword(request.password(), userDetails.getPassword());
         Authentication authentication = SecurityUtil.authenticate(userDetails);
 
+        return new LoginResponse(issueTokens(authentication));
+    }
+
+    // 지역처럼 토큰 claim 에 담긴 회원 정보가 바뀌면 토큰을 새로 발급한다. (이전 refresh token 으로는 더 재발급할 수 없다)
+    @Transactional(readOnly = true)
+    public String reissueToken(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                                        .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+        MemberPrincipal principal = MemberPrincipal.from(member);
+
+        return issueTokens(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private String issueTokens(Authentication authentication) {
         String accessToken = jwtTokenProvider.createAccessToken(authentication);
         String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
-        Token token = new Token(authentication.getName(), accessToken, refreshToken);
-        tokenRepository.save(token);
-
-        return new LoginResponse(accessToken);
+        tokenService.saveToken(authentication.getName(), accessToken, refreshToken);
+        return accessToken;
     }
 
     private UserDetails getUserDetails(LoginRequest request) {
@@ -62,7 +76,7 @@ public class AuthService {
     }
 
     private void checkPassword(String password, String encodedPassword) {
-        if (!passwordEncoder.matches(password, encodedPassword)) {
+        if (!passwordVerifier.matches(password, encodedPassword)) {
             throw new AuthException(WRONG_PASSWORD);
         }
     }
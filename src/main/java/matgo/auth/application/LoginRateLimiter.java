@@ -0,0 +1,115 @@
+package matgo.auth.application;
+
+import static matgo.global.exception.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import matgo.auth.exception.AuthException;
+import matgo.global.util.DigestUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도를 이메일별, IP별 redis token bucket 으로 제한한다. (비밀번호 검증 전에 확인한다)
+ * 두 bucket 을 한 script 에서 확인하고 둘 다 남아 있을 때만 하나씩 꺼낸다. 시간은 서버마다 다르지 않도록 redis TIME 을 쓴다.
+ * redis 에 접근할 수 없으면 로그인을 막지 않는다. (비밀번호 검증 executor 가 여전히 bcrypt 동시 실행 수를 제한한다)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String EMAIL_KEY_PREFIX = "login:attempt:email:";
+    private static final String IP_KEY_PREFIX = "login:attempt:ip:";
+    private static final long ALLOWED = 0L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    // ARGV 는 key 마다 (capacity, 1ms 당 채워지는 토큰 수). 반환값은 0(허용) 또는 토큰이 없는 key 의 순번(1부터)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local tokens = {}
+      local exhausted = 0
+      for i, key in ipairs(KEYS) do
+        local capacity = tonumber(ARGV[i * 2 - 1])
+        local rate = tonumber(ARGV[i * 2])
+        local bucket = redis.call('HMGET', key, 'tokens', 'updatedAt')
+        local current = tonumber(bucket[1]) or capacity
+        local updatedAt = tonumber(bucket[2]) or now
+        current = math.min(capacity, current + math.max(0, now - updatedAt) * rate)
+        if current < 1 and exhausted == 0 then
+          exhausted = i
+        end
+        tokens[i] = current
+      end
+      for i, key in ipairs(KEYS) do
+        local capacity = tonumber(ARGV[i * 2 - 1])
+        local rate = tonumber(ARGV[i * 2])
+        local current = tokens[i]
+        if exhausted == 0 then
+          current = current - 1
+        end
+        redis.call('HSET', key, 'tokens', tostring(current), 'updatedAt', now)
+        redis.call('PEXPIRE', key, math.ceil((capacity - current) / rate) + 1000)
+      end
+      return exhausted""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String emailCapacity;
+    private final String emailRefillPerMillis;
+    private final String ipCapacity;
+    private final String ipRefillPerMillis;
+    private final Counter emailLimitedCounter;
+    private final Counter ipLimitedCounter;
+
+    public LoginRateLimiter(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${auth.login-rate-limit.email.capacity:5}") int emailCapacity,
+      @Value("${auth.login-rate-limit.email.refill-per-minute:5}") int emailRefillPerMinute,
+      @Value("${auth.login-rate-limit.ip.capacity:50}") int ipCapacity,
+      @Value("${auth.login-rate-limit.ip.refill-per-minute:50}") int ipRefillPerMinute
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.emailCapacity = String.valueOf(emailCapacity);
+        this.emailRefillPerMillis = String.valueOf((double) emailRefillPerMinute / MILLIS_PER_MINUTE);
+        this.ipCapacity = String.valueOf(ipCapacity);
+        this.ipRefillPerMillis = String.valueOf((double) ipRefillPerMinute / MILLIS_PER_MINUTE);
+        this.emailLimitedCounter = limitedCounter(meterRegistry, "email");
+        this.ipLimitedCounter = limitedCounter(meterRegistry, "ip");
+    }
+
+    private static Counter limitedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auth.login.limited")
+                      .description("시도 횟수 제한에 걸려 거절한 로그인 요청 수")
+                      .tag("scope", scope)
+                      .register(meterRegistry);
+    }
+
+    public void acquire(String email, String clientIp) {
+        Long exhausted = execute(email, clientIp);
+        if (exhausted == null || exhausted == ALLOWED) {
+            return;
+        }
+
+        (exhausted == 1L ? emailLimitedCounter : ipLimitedCounter).increment();
+        throw new AuthException(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    private Long execute(String email, String clientIp) {
+        // 이메일은 대소문자만 바꿔서 bucket 을 나누지 못하게 하고, key 에는 원문 대신 digest 를 남긴다.
+        String emailKey = EMAIL_KEY_PREFIX + DigestUtil.sha256(email.trim().toLowerCase(Locale.ROOT));
+        try {
+            return redisTemplate.execute(ACQUIRE_SCRIPT, List.of(emailKey, IP_KEY_PREFIX + clientIp),
+              emailCapacity, emailRefillPerMillis, ipCapacity, ipRefillPerMillis);
+        } catch (DataAccessException e) {
+            log.warn("login rate limiter unavailable, allowing attempt: {}", e.getMessage());
+            return ALLOWED;
+        }
+    }
+}
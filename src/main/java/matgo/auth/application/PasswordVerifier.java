@@ -0,0 +1,99 @@
+package matgo.auth.application;
+
+import static matgo.global.exception.ErrorCode.INTERNAL_SERVER_ERROR;
+import static matgo.global.exception.ErrorCode.LOGIN_OVERLOADED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import matgo.auth.exception.AuthException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 비밀번호 검증을 전용 executor 에서 실행한다.
+ * bcrypt 를 동시에 돌리는 수는 executor 크기로 제한되고, 큐가 차거나 제한 시간 안에 끝나지 않으면 LOGIN_OVERLOADED(429) 를 던진다.
+ * 그래서 로그인 요청이 몰려도 나머지 API 를 처리할 요청 스레드가 남는다.
+ */
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final AsyncTaskExecutor passwordVerifyExecutor;
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+    private final long timeoutMillis;
+
+    public PasswordVerifier(
+      PasswordEncoder passwordEncoder,
+      @Qualifier("passwordVerifyExecutor") AsyncTaskExecutor passwordVerifyExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${auth.password-verify.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.passwordVerifyExecutor = passwordVerifyExecutor;
+        this.hashTimer = Timer.builder("auth.password.verify")
+                              .description("로그인 비밀번호를 해시해서 비교하는 데 걸린 시간")
+                              .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.verify.queue.wait")
+                                   .description("로그인 비밀번호 검증이 스레드를 기다린 시간")
+                                   .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("auth.password.verify.timeout")
+                                     .description("제한 시간 안에 끝나지 않아 포기한 로그인 비밀번호 검증 수")
+                                     .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.verify.rejected")
+                                      .description("검증 큐가 가득 차서 거절한 로그인 비밀번호 검증 수")
+                                      .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = passwordVerifyExecutor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new AuthException(LOGIN_OVERLOADED);
+        }
+        return await(result);
+    }
+
+    private boolean await(Future<Boolean> result) {
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에서 기다리는 중이면 실행되지 않도록 취소한다.
+            result.cancel(true);
+            timeoutCounter.increment();
+            throw new AuthException(LOGIN_OVERLOADED);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthException(INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -2,29 +2,74 @@ package matgo.auth.application;
 
 import static matgo.global.exception.ErrorCode.EXPIRED_REFRESH_TOKEN;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.UnaryOperator;
 import matgo.auth.domain.entity.Token;
 import matgo.auth.domain.repository.TokenRepository;
 import matgo.auth.exception.TokenException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class TokenService {
 
+    private static final String REFRESH_METRIC = "auth.token.refresh";
+
     private final TokenRepository tokenRepository;
+    private final Duration reuseWindow;
+    private final Duration reissueGrace;
 
-    public void deleteToken(Long id) {
-        tokenRepository.deleteById(id);
+    private final Counter reusedCounter;
+    private final Counter reissuedCounter;
+    private final Counter missCounter;
+
+    public TokenService(
+      TokenRepository tokenRepository,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.refresh.reuse-window-seconds:45}") long reuseWindowSeconds,
+      @Value("${jwt.refresh.reissue-grace-seconds:120}") long reissueGraceSeconds
+    ) {
+        this.tokenRepository = tokenRepository;
+        this.reuseWindow = Duration.ofSeconds(reuseWindowSeconds);
+        this.reissueGrace = Duration.ofSeconds(reissueGraceSeconds);
+        this.reusedCounter = refreshCounter(meterRegistry, "reused");
+        this.reissuedCounter = refreshCounter(meterRegistry, "reissued");
+        this.missCounter = refreshCounter(meterRegistry, "miss");
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REFRESH_METRIC)
+                      .description("만료된 access token 재발급 요청 수 (reused: 이미 재발급한 토큰 재사용, miss: 저장된 토큰 없음)")
+                      .tag("result", result)
+                      .register(meterRegistry);
     }
 
-    public Token findByAccessToken(String accessToken) {
-        return tokenRepository.findByAccessToken(accessToken)
-                              .orElseThrow(() -> new TokenException(EXPIRED_REFRESH_TOKEN));
+    public void saveToken(String memberId, String accessToken, String refreshToken) {
+        tokenRepository.save(memberId, accessToken, refreshToken);
     }
 
-    @Deprecated
-    public void saveAccessToken(Token token) {
-        tokenRepository.save(token);
+    public void deleteToken(Long id) {
+        tokenRepository.deleteByMemberId(id);
+    }
+
+    // 같은 만료 토큰으로 요청이 이어지면 서명을 다시 하지 않고, 조금 전에 재발급한 토큰을 그대로 돌려준다.
+    public String reissueAccessToken(String accessToken, UnaryOperator<String> issuer) {
+        Token token = tokenRepository.findByAccessToken(accessToken)
+                                     .orElse(null);
+        if (token == null) {
+            missCounter.increment();
+            throw new TokenException(EXPIRED_REFRESH_TOKEN);
+        }
+        if (token.isReissuedAfter(System.currentTimeMillis() - reuseWindow.toMillis())) {
+            reusedCounter.increment();
+            return token.reissuedAccessToken();
+        }
+
+        String reissuedAccessToken = issuer.apply(token.refreshToken());
+        tokenRepository.saveReissued(accessToken, reissuedAccessToken, token, reissueGrace);
+        reissuedCounter.increment();
+        return reissuedAccessToken;
     }
 }
@@ -1,25 +1,17 @@
 package matgo.auth.domain.entity;
 
-import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
+/**
+ * access token 으로 찾은 refresh token 정보
+ * reissuedAccessToken 은 이 access token 으로 이미 재발급한 토큰이고, 없으면 null 이다.
+ */
+public record Token(
+  String memberId,
+  String refreshToken,
+  String reissuedAccessToken,
+  long reissuedAt
+) {
 
-@Getter
-@RedisHash(value = "jwt", timeToLive = 60 * 60 * 24 * 30) // 30일
-@AllArgsConstructor
-public class Token {
-
-    @Id
-    private String id;
-
-    @Indexed
-    private String accessToken;
-
-    private String refreshToken;
-
-    public void updateAccessToken(String accessToken) {
-        this.accessToken = accessToken;
+    public boolean isReissuedAfter(long time) {
+        return reissuedAccessToken != null && reissuedAt > time;
     }
 }
@@ -1,12 +1,94 @@
 package matgo.auth.domain.repository;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import matgo.auth.domain.entity.Token;
-import org.springframework.data.repository.CrudRepository;
+import matgo.global.util.DigestUtil;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+/**
+ * access token digest 를 key 로 refresh token 을 저장한다. (secondary index 없이 key 하나로 찾는다)
+ * jwt:access:{digest} -> hash(member, refresh, next, nextIssuedAt), jwt:member:{memberId} -> 현재 refresh token
+ * 로그아웃이나 다시 로그인해서 jwt:member 값이 바뀌면 이전 access token 으로는 재발급할 수 없다.
+ */
 @Repository
-public interface TokenRepository extends CrudRepository<Token, Long> {
+@RequiredArgsConstructor
+public class TokenRepository {
 
-    Optional<Token> findByAccessToken(String accessToken);
+    private static final String ACCESS_KEY_PREFIX = "jwt:access:";
+    private static final String MEMBER_KEY_PREFIX = "jwt:member:";
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(30);
+
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+      redis.call('HSET', KEYS[1], 'member', ARGV[1], 'refresh', ARGV[2])
+      redis.call('PEXPIRE', KEYS[1], ARGV[3])
+      redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+      return 1""", Long.class);
+
+    // 회원 key 도 KEYS 로 선언해야 하므로 회원 아이디는 먼저 읽어서 넘긴다. (ARGV[1])
+    // 그 사이에 hash 의 회원이 바뀌었으면 선언한 회원 key 와 맞지 않으므로 찾지 못한 것으로 본다.
+    private static final RedisScript<List> FIND_SCRIPT = RedisScript.of("""
+      local token = redis.call('HMGET', KEYS[1], 'member', 'refresh', 'next', 'nextIssuedAt')
+      if token[1] ~= ARGV[1] or redis.call('GET', KEYS[2]) ~= token[2] then
+        return {}
+      end
+      return token""", List.class);
+
+    // 기존 key 에 재발급한 토큰을 남기고, 새 토큰도 같은 refresh token 으로 재발급할 수 있도록 같은 남은 시간으로 저장한다.
+    // 기존 key 는 요청이 겹치는 동안만 필요하므로 grace 만큼만 남긴다.
+    private static final RedisScript<Long> SAVE_REISSUED_SCRIPT = RedisScript.of("""
+      local ttl = redis.call('PTTL', KEYS[1])
+      if ttl <= 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], 'next', ARGV[1], 'nextIssuedAt', ARGV[2])
+      redis.call('PEXPIRE', KEYS[1], math.min(ttl, tonumber(ARGV[5])))
+      redis.call('HSET', KEYS[2], 'member', ARGV[3], 'refresh', ARGV[4])
+      redis.call('PEXPIRE', KEYS[2], ttl)
+      return 1""", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(String memberId, String accessToken, String refreshToken) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(accessKey(accessToken), MEMBER_KEY_PREFIX + memberId),
+          memberId, refreshToken, String.valueOf(REFRESH_TOKEN_TTL.toMillis()));
+    }
+
+    public Optional<Token> findByAccessToken(String accessToken) {
+        String accessKey = accessKey(accessToken);
+        Object memberId = redisTemplate.opsForHash().get(accessKey, "member");
+        if (memberId == null) {
+            return Optional.empty();
+        }
+
+        List<?> values = redisTemplate.execute(FIND_SCRIPT, List.of(accessKey, MEMBER_KEY_PREFIX + memberId),
+          memberId.toString());
+        if (values == null || values.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String reissuedAt = (String) values.get(3);
+        return Optional.of(new Token((String) values.get(0), (String) values.get(1), (String) values.get(2),
+          reissuedAt != null ? Long.parseLong(reissuedAt) : 0L));
+    }
+
+    public boolean saveReissued(String accessToken, String reissuedAccessToken, Token token, Duration grace) {
+        Long saved = redisTemplate.execute(SAVE_REISSUED_SCRIPT,
+          List.of(accessKey(accessToken), accessKey(reissuedAccessToken)),
+          reissuedAccessToken, String.valueOf(System.currentTimeMillis()), token.memberId(), token.refreshToken(),
+          String.valueOf(grace.toMillis()));
+        return saved != null && saved == 1L;
+    }
+
+    public void deleteByMemberId(Long memberId) {
+        redisTemplate.delete(MEMBER_KEY_PREFIX + memberId);
+    }
+
+    private String accessKey(String accessToken) {
+        return ACCESS_KEY_PREFIX + DigestUtil.sha256(accessToken);
+    }
 }
@@ -0,0 +1,65 @@
+package matgo.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import matgo.global.util.DigestUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 access token -> Authentication 캐시
+ * key 는 토큰 원문 대신 SHA-256 digest 를 쓰고, 항목은 ttl 과 토큰 만료 시각 중 먼저 오는 시점에 만료된다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtAuthenticationCache(
+      MeterRegistry meterRegistry,
+      @Value("${jwt.authentication-cache.ttl-seconds:30}") long ttlSeconds,
+      @Value("${jwt.authentication-cache.max-size:10000}") long maxSize
+    ) {
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maxSize)
+                             .expireAfter(new TokenExpiry(ttlNanos))
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");
+    }
+
+    // 캐시에 없으면 verifier 로 한 번만 파싱하고, 검증에 실패하면 예외를 그대로 던지고 캐시하지 않는다.
+    public Authentication get(String token, Function<String, VerifiedToken> verifier) {
+        return cache.get(DigestUtil.sha256(token), key -> verifier.apply(token)).authentication();
+    }
+
+    public record VerifiedToken(Authentication authentication, long expiresAtMillis) {
+
+    }
+
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiration = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -8,14 +8,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import matgo.auth.exception.TokenException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -24,7 +22,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtTokenFilter extends OncePerRequestFilter {
 
-    private static final String[] WHITELIST = {
+    static final String[] WHITELIST = {
       "/docs/**", // swagger
       "/v3/api-docs/**", // swagger
       "/api/auth/login", // 로그인
@@ -34,15 +32,24 @@ public class JwtTokenFilter extends OncePerRequestFilter {
       "/api/restaurants", // 전체 식당 목록 조회
       "/api/restaurants/address", // 주소로 식당 목록 조회
       "/api/restaurants/search", // 식당 검색
+      "/api/restaurants/location", // 좌표 반경 식당 목록 조회
       "/api/restaurants/detail/**", // 식당 상세 조회
       "/api/reviews/detail/{reviewId}", // 리뷰 상세 조회
       "/api/reviews/{restaurantId}", // 식당 리뷰 목록 조회
+      "/actuator/health/**", // 헬스 체크
     };
+    // 로그인하지 않아도 되지만, 토큰이 있으면 회원별 정보(내 반응 등)를 함께 내려주는 경로
+    static final String[] OPTIONAL_AUTHENTICATION = {
+      "/api/reviews/detail/{reviewId}", // 리뷰 상세 조회
+      "/api/reviews/{restaurantId}", // 식당 리뷰 목록 조회
+    };
+    // 요청마다 패턴을 다시 해석하지 않도록 시작할 때 한 번 만들어 둔다.
+    private static final PathPatternTrie WHITELIST_MATCHER = new PathPatternTrie(WHITELIST);
+    private static final PathPatternTrie OPTIONAL_AUTHENTICATION_MATCHER = new PathPatternTrie(OPTIONAL_AUTHENTICATION);
     private static final String AUTHORIZATION = "Authorization";
     private static final String BEARER = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
 
 
     @Override
@@ -51,7 +58,10 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         String path = request.getRequestURI();
 
-        if (Arrays.stream(WHITELIST).anyMatch(pattern -> antPathMatcher.match(pattern, path))) {
+        if (WHITELIST_MATCHER.matches(path)) {
+            if (OPTIONAL_AUTHENTICATION_MATCHER.matches(path)) {
+                authenticateIfPresent(request);
+            }
             filterChain.doFilter(request, response);
             return;
         }
@@ -59,15 +69,14 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         String accessToken = resolveToken(request);
         try {
             // Access Token 유효성 검사
-            jwtTokenProvider.validateAccessToken(accessToken);
-            Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+            Authentication authentication = jwtTokenProvider.authenticateAccessToken(accessToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (TokenException e) {
             // Access Token 만료 시 Refresh Token 유효성 검사
             if (e.getErrorCode().equals(EXPIRED_ACCESS_TOKEN)) {
                 try {
                     String newAccessToken = jwtTokenProvider.refreshAccessToken(accessToken);
-                    Authentication authentication = jwtTokenProvider.getAuthentication(newAccessToken);
+                    Authentication authentication = jwtTokenProvider.authenticateAccessToken(newAccessToken);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     response.setHeader(AUTHORIZATION, BEARER + newAccessToken);
                 } catch (TokenException ex) {
@@ -90,6 +99,20 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     }
 
+    // 토큰이 없거나 유효하지 않으면 비회원으로 처리한다. (재발급은 인증이 필요한 경로에서만 한다)
+    private void authenticateIfPresent(HttpServletRequest request) {
+        String accessToken = resolveToken(request);
+        if (accessToken == null) {
+            return;
+        }
+
+        try {
+            SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.authenticateAccessToken(accessToken));
+        } catch (TokenException e) {
+            log.debug("ignore invalid access token on optional authentication path: {}", e.getMessage());
+        }
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION);
 
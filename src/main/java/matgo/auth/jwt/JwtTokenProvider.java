@@ -9,31 +9,39 @@ import static matgo.global.exception.ErrorCode.EXPIRED_REFRESH_TOKEN;
 import static matgo.global.exception.ErrorCode.INVALID_ACCESS_TOKEN;
 import static matgo.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.io.SerializationException;
+import io.jsonwebtoken.io.Serializer;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import matgo.auth.application.TokenService;
-import matgo.auth.domain.entity.Token;
 import matgo.auth.exception.TokenException;
+import matgo.auth.jwt.JwtAuthenticationCache.VerifiedToken;
+import matgo.auth.security.MemberPrincipal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Component
 @Slf4j
@@ -42,16 +50,30 @@ public class JwtTokenProvider {
     private static final long ACCESS_TOKEN_EXPIRE_TIME = Duration.ofMinutes(1).toMillis();
     private static final long REFRESH_TOKEN_EXPIRE_TIME = Duration.ofDays(30).toMillis();
     private static final String KEY_ROLE = "role";
+    private static final String KEY_REGION_ID = "regionId";
+    private static final String KEY_REGION_NAME = "regionName";
+    // 한글 지역명이 들어가도 payload 가 ASCII 로만 직렬화되도록 non-ASCII 문자는 유니코드 escape 로 쓴다.
+    // (restdocs-apispec 처럼 payload 를 표준 base64 로 읽는 도구가 한글 claim 때문에 깨지지 않게 한다)
+    private static final ObjectMapper CLAIMS_MAPPER = JsonMapper.builder()
+                                                                .enable(JsonWriteFeature.ESCAPE_NON_ASCII)
+                                                                .build();
+    private static final Serializer<Map<String, ?>> CLAIMS_SERIALIZER = JwtTokenProvider::serialize;
 
     private final SecretKey key;
+    // JwtParser 는 불변이고 thread-safe 하므로 요청마다 만들지 않고 재사용한다.
+    private final JwtParser jwtParser;
     private final TokenService tokenService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     public JwtTokenProvider(
       @Value("${spring.security.jwt.secret}") String key,
-      TokenService tokenService
+      TokenService tokenService,
+      JwtAuthenticationCache jwtAuthenticationCache
     ) {
         this.key = Keys.hmacShaKeyFor(key.getBytes(UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(this.key).build();
         this.tokenService = tokenService;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 
     public String createAccessToken(Authentication authentication) {
@@ -68,9 +90,14 @@ public class JwtTokenProvider {
                                            .map(GrantedAuthority::getAuthority)
                                            .collect(Collectors.joining(","));
         claims.put(KEY_ROLE, authorities);
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal && principal.getRegionId() != null) {
+            claims.put(KEY_REGION_ID, principal.getRegionId());
+            claims.put(KEY_REGION_NAME, principal.getRegionName());
+        }
         Date now = new Date();
 
         return Jwts.builder()
+                   .serializeToJsonWith(CLAIMS_SERIALIZER)
                    .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                    .setClaims(claims)
                    .setIssuedAt(now)
@@ -80,38 +107,45 @@ public class JwtTokenProvider {
                    .compact();
     }
 
-    @Transactional
-    public String refreshAccessToken(String accessToken) {
-        Token token = tokenService.findByAccessToken(accessToken);
-        String refreshToken = token.getRefreshToken();
-        validateRefreshToken(refreshToken);
-
-        Authentication authentication = getAuthentication(refreshToken);
-        return createAccessToken(authentication);
+    private static byte[] serialize(Map<String, ?> claims) {
+        try {
+            return CLAIMS_MAPPER.writeValueAsBytes(claims);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Unable to serialize jwt claims", e);
+        }
     }
 
+    public String refreshAccessToken(String accessToken) {
+        return tokenService.reissueAccessToken(accessToken, refreshToken -> {
+            Claims claims = parseRefreshToken(refreshToken);
+            return createAccessToken(toAuthentication(claims, refreshToken));
+        });
+    }
 
-    public Authentication getAuthentication(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                                .setSigningKey(key)
-                                .build()
-                                .parseClaimsJws(token)
-                                .getBody();
-            List<SimpleGrantedAuthority> authorities =
-              Collections.singletonList(new SimpleGrantedAuthority(claims.get(KEY_ROLE).toString()));
-
-            User principal = new User(claims.getSubject(), "", authorities);
-            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
-        } catch (ExpiredJwtException e) {
-            throw new TokenException(EXPIRED_ACCESS_TOKEN);
+    // 서명 검증과 claim 추출을 한 번의 파싱으로 처리하고, 검증된 토큰은 만료 전까지 잠깐 캐시한다.
+    public Authentication authenticateAccessToken(String accessToken) {
+        if (!StringUtils.hasText(accessToken)) {
+            throw new TokenException(EMPTY_ACCESS_TOKEN);
         }
+        return jwtAuthenticationCache.get(accessToken, token -> {
+            Claims claims = parseAccessToken(token);
+            return new VerifiedToken(toAuthentication(claims, token), claims.getExpiration().getTime());
+        });
     }
 
+    private Authentication toAuthentication(Claims claims, String token) {
+        List<SimpleGrantedAuthority> authorities =
+          Collections.singletonList(new SimpleGrantedAuthority(claims.get(KEY_ROLE).toString()));
+
+        Number regionId = claims.get(KEY_REGION_ID, Number.class);
+        MemberPrincipal principal = new MemberPrincipal(claims.getSubject(), "",
+          regionId != null ? regionId.longValue() : null, claims.get(KEY_REGION_NAME, String.class), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
 
-    public void validateAccessToken(String accessToken) {
+    private Claims parseAccessToken(String accessToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             throw new TokenException(INVALID_ACCESS_TOKEN);
         } catch (ExpiredJwtException e) {
@@ -121,9 +155,9 @@ public class JwtTokenProvider {
         }
     }
 
-    public void validateRefreshToken(String refreshToken) {
+    private Claims parseRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+            return jwtParser.parseClaimsJws(refreshToken).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             throw new TokenException(INVALID_REFRESH_TOKEN);
         } catch (ExpiredJwtException e) {
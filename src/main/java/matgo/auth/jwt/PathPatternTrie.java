@@ -0,0 +1,112 @@
+package matgo.auth.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 패턴을 segment 단위 trie 로 미리 만들어 두고, 요청 경로를 한 번 훑어서 매칭한다. (매칭 중에는 객체를 만들지 않는다)
+ * 지원하는 패턴은 고정 segment, 한 segment 를 대신하는 {변수} 와 *, 마지막에만 오는 ** 이다.
+ * 빈 segment 와 끝의 '/' 는 AntPathMatcher 와 같게 처리한다.
+ */
+final class PathPatternTrie {
+
+    private static final char SEPARATOR = '/';
+
+    private final Node root = new Node();
+
+    PathPatternTrie(String... patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    private void add(String pattern) {
+        Node node = root;
+        String[] segments = pattern.split(String.valueOf(SEPARATOR));
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                }
+                node.matchesRest = true;
+                return;
+            }
+            if (isVariable(segment)) {
+                node = node.variableChild();
+            } else if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("unsupported path pattern segment: " + pattern);
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+        node.terminal = true;
+    }
+
+    private boolean isVariable(String segment) {
+        return segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"));
+    }
+
+    boolean matches(String path) {
+        return match(root, path, 0);
+    }
+
+    private boolean match(Node node, String path, int from) {
+        if (node.matchesRest) {
+            return true;
+        }
+
+        int start = from;
+        while (start < path.length() && path.charAt(start) == SEPARATOR) {
+            start++;
+        }
+        if (start == path.length()) {
+            // 패턴이 '/' 로 끝나지 않으므로 경로도 '/' 로 끝나면 안 된다.
+            return node.terminal && (path.isEmpty() || path.charAt(path.length() - 1) != SEPARATOR);
+        }
+
+        int end = path.indexOf(SEPARATOR, start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+        for (int i = 0; i < node.literalSegments.size(); i++) {
+            String segment = node.literalSegments.get(i);
+            if (segment.length() == length && path.regionMatches(start, segment, 0, length)
+              && match(node.literalChildren.get(i), path, end)) {
+                return true;
+            }
+        }
+        return node.variable != null && match(node.variable, path, end);
+    }
+
+    private static final class Node {
+
+        private final List<String> literalSegments = new ArrayList<>();
+        private final List<Node> literalChildren = new ArrayList<>();
+        private Node variable;
+        private boolean terminal;
+        private boolean matchesRest;
+
+        private Node literalChild(String segment) {
+            int index = literalSegments.indexOf(segment);
+            if (index >= 0) {
+                return literalChildren.get(index);
+            }
+            Node child = new Node();
+            literalSegments.add(segment);
+            literalChildren.add(child);
+            return child;
+        }
+
+        private Node variableChild() {
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+    }
+}
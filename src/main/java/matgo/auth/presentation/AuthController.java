@@ -1,5 +1,6 @@
 package matgo.auth.presentation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import matgo.auth.application.AuthService;
@@ -34,9 +35,10 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(
-      @Valid @RequestBody LoginRequest request
+      @Valid @RequestBody LoginRequest request,
+      HttpServletRequest servletRequest
     ) {
-        LoginResponse response = authService.login(request);
+        LoginResponse response = authService.login(request, servletRequest.getRemoteAddr());
         return ResponseEntity.ok().body(response);
     }
 
@@ -3,14 +3,11 @@ package matgo.auth.security;
 import static matgo.global.exception.ErrorCode.NOT_ACTIVATED_USER;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_MEMBER;
 
-import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import matgo.auth.exception.AuthException;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -31,15 +28,11 @@ public class CustomUserDetailService implements UserDetailsService {
                                .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
     }
 
-    private User createUser(Member member) {
+    private MemberPrincipal createUser(Member member) {
         if (!member.isVerified()) {
             throw new AuthException(NOT_ACTIVATED_USER);
         }
 
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(member.getRole().name());
-
-        return new User(String.valueOf(member.getId()),
-          member.getPassword(),
-          Collections.singleton(authority));
+        return MemberPrincipal.from(member);
     }
 }
@@ -0,0 +1,37 @@
+package matgo.auth.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import lombok.Getter;
+import matgo.member.domain.entity.Member;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증된 회원 정보 (username 은 회원 아이디)
+ * 지역은 access token 의 서명된 claim 에서 꺼내므로, 지역 단위 조회에서 회원을 다시 조회하지 않아도 된다.
+ * 지역 claim 이 없는 이전 토큰이면 regionId, regionName 은 null 이다.
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long regionId;
+    private final String regionName;
+
+    public MemberPrincipal(String memberId, String password, Long regionId, String regionName,
+      Collection<? extends GrantedAuthority> authorities) {
+        super(memberId, password, authorities);
+        this.regionId = regionId;
+        this.regionName = regionName;
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(String.valueOf(member.getId()), member.getPassword(), member.getRegion().getId(),
+          member.getRegion().getName(), Collections.singleton(new SimpleGrantedAuthority(member.getRole().name())));
+    }
+
+    public Long getMemberId() {
+        return Long.parseLong(getUsername());
+    }
+}
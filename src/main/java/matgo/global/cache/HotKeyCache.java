@@ -0,0 +1,104 @@
+package matgo.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 구간마다 조회 수를 세서 상위 N 개 key 만 메모리에 짧게 고정(pin)한다.
+ * 나머지 key 는 캐시하지 않고 매번 loader 를 호출한다.
+ */
+public class HotKeyCache<K, V> {
+
+    // 한 구간에 집계하는 key 수 상한 (무작위 key 로 메모리가 늘어나는 것을 막는다)
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final int topN;
+    private final long minHits;
+    private final Cache<K, V> pinned;
+    private final Counter hitCounter;
+
+    private volatile ConcurrentMap<K, LongAdder> accessCounts = new ConcurrentHashMap<>();
+    private volatile Set<K> hotKeys = Set.of();
+
+    public HotKeyCache(String name, int topN, long minHits, Duration ttl, MeterRegistry meterRegistry) {
+        this.topN = topN;
+        this.minHits = minHits;
+        this.pinned = Caffeine.newBuilder()
+                              .expireAfterWrite(ttl)
+                              .maximumSize(topN)
+                              .build();
+        this.hitCounter = Counter.builder("cache.hotkey.hits")
+                                 .description("hot key 로 고정된 값을 바로 돌려준 횟수")
+                                 .tag("name", name)
+                                 .register(meterRegistry);
+        Gauge.builder("cache.hotkey.keys", this, cache -> cache.hotKeys.size())
+             .description("현재 hot key 로 선정된 key 수")
+             .tag("name", name)
+             .register(meterRegistry);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        record(key);
+        if (!hotKeys.contains(key)) {
+            return loader.get();
+        }
+
+        V value = pinned.getIfPresent(key);
+        if (value != null) {
+            hitCounter.increment();
+            return value;
+        }
+        value = loader.get();
+        pinned.put(key, value);
+        return value;
+    }
+
+    // 지난 구간의 상위 N 개 key 를 hot key 로 바꾸고 집계를 새로 시작한다.
+    public void rotate() {
+        Map<K, LongAdder> counts = accessCounts;
+        accessCounts = new ConcurrentHashMap<>();
+
+        Set<K> nextHotKeys = counts.entrySet()
+                                   .stream()
+                                   .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                                   .filter(entry -> entry.getValue() >= minHits)
+                                   .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+                                   .limit(topN)
+                                   .map(Map.Entry::getKey)
+                                   .collect(Collectors.toUnmodifiableSet());
+        hotKeys = nextHotKeys;
+        pinned.asMap().keySet().retainAll(nextHotKeys);
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        pinned.asMap().keySet().removeIf(predicate);
+    }
+
+    public boolean isHot(K key) {
+        return hotKeys.contains(key);
+    }
+
+    private void record(K key) {
+        ConcurrentMap<K, LongAdder> counts = accessCounts;
+        LongAdder count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= MAX_TRACKED_KEYS) {
+                return;
+            }
+            count = counts.computeIfAbsent(key, k -> new LongAdder());
+        }
+        count.increment();
+    }
+}
@@ -1,5 +1,6 @@
 package matgo.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,4 +21,32 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 외부 API 페이지 병렬 조회용 (동시 요청 수는 파이프라인의 in-flight 윈도우로 제한)
+    @Bean(name = "restaurantFetchExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor restaurantFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("restaurantFetchExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 로그인 비밀번호 검증(bcrypt)용. 큐가 차면 기다리지 않고 거절한다. (기본 AbortPolicy)
+    @Bean(name = "passwordVerifyExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor passwordVerifyExecutor(
+      @Value("${auth.password-verify.pool-size:0}") int poolSize,
+      @Value("${auth.password-verify.queue-capacity:32}") int queueCapacity
+    ) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("passwordVerifyExecutor-");
+        executor.initialize();
+        return executor;
+    }
+
 }
@@ -0,0 +1,39 @@
+package matgo.global.config;
+
+import matgo.global.lock.provider.HybridLockProvider;
+import matgo.global.lock.provider.LockProvider;
+import matgo.global.lock.provider.RedisLockProvider;
+import matgo.global.lock.provider.StripedLocalLockProvider;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LockConfig {
+
+    private static final String LOCK_PROVIDER = "lock.provider";
+
+    @Value("${lock.local.stripes:1024}")
+    private int stripes;
+
+    @Bean
+    @ConditionalOnProperty(name = LOCK_PROVIDER, havingValue = "redis", matchIfMissing = true)
+    public LockProvider redisLockProvider(RedissonClient redissonClient) {
+        return new RedisLockProvider(redissonClient);
+    }
+
+    // 서버가 하나뿐인 local, test 프로필에서는 redis 를 거치지 않는다.
+    @Bean
+    @ConditionalOnProperty(name = LOCK_PROVIDER, havingValue = "local")
+    public LockProvider localLockProvider() {
+        return new StripedLocalLockProvider(stripes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = LOCK_PROVIDER, havingValue = "hybrid")
+    public LockProvider hybridLockProvider(RedissonClient redissonClient) {
+        return new HybridLockProvider(new StripedLocalLockProvider(stripes), new RedisLockProvider(redissonClient));
+    }
+}
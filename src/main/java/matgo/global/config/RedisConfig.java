@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -17,6 +18,9 @@ public class RedisConfig {
     private String host;
     @Value("${spring.data.redis.port}")
     private int port;
+    // leaseTime 없이 잡은 락은 이 시간만큼 lease 를 잡고, 1/3 이 지날 때마다 연장한다.
+    @Value("${lock.watchdog-timeout-ms:30000}")
+    private long lockWatchdogTimeoutMs;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -27,12 +31,21 @@ public class RedisConfig {
     public RedissonClient redissonClient() {
         RedissonClient redisson;
         Config config = new Config();
+        config.setLockWatchdogTimeout(lockWatchdogTimeoutMs);
         config.useSingleServer()
               .setAddress(REDISSON_HOST_PREFIX + host + ":" + port);
         redisson = Redisson.create(config);
         return redisson;
     }
 
+    // 캐시 무효화 pub/sub 구독용
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
     // 나중에 캐시 사용하면 주석 풀기
 //    @Bean
 //    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
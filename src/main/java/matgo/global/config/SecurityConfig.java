@@ -58,9 +58,11 @@ public class SecurityConfig {
               "/api/restaurants", // 전체 식당 목록 조회
               "/api/restaurants/address", // 주소로 식당 목록 조회
               "/api/restaurants/search", // 식당 검색
+              "/api/restaurants/location", // 좌표 반경 식당 목록 조회
               "/api/restaurants/detail/**", // 식당 상세 조회
               "/api/reviews/detail/{reviewId}", // 리뷰 상세 조회
-              "/api/reviews/{restaurantId}" // 식당 리뷰 목록 조회
+              "/api/reviews/{restaurantId}", // 식당 리뷰 목록 조회
+              "/actuator/health/**" // 헬스 체크 (liveness, readiness 포함)
             ).permitAll()
             // 고객만 허용
             .requestMatchers(HttpMethod.PUT, "/api/member").hasRole("USER") // 회원 정보 수정
@@ -70,6 +72,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.POST, "/api/restaurants/new").hasRole("USER") // 식당 등록 요청
             .requestMatchers(HttpMethod.POST, "/api/reviews/new/{restaurantId}").hasRole("USER") // 리뷰 작성
             .requestMatchers(HttpMethod.POST, "/api/reviews/{reviewId}/reactions").hasRole("USER") // 리뷰 좋아요/싫어요
+            .requestMatchers(HttpMethod.GET, "/api/reviews/{reviewId}/reactions/me").hasRole("USER") // 리뷰 내 반응 조회
             .requestMatchers(HttpMethod.GET, "/api/reviews/my/writable-reviews").hasRole("USER") // 내가 작성한 리뷰 목록 조회
             .requestMatchers(HttpMethod.DELETE, "/api/reviews/{restaurantId}/{reviewId}")
             .hasAnyRole("USER", "ADMIN") // 리뷰 삭제
@@ -79,12 +82,15 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.GET, "/api/posts/detail/{postId}").hasRole("USER") // 게시글 상세 조회
             .requestMatchers(HttpMethod.GET, "/api/posts").hasRole("USER") // 게시글 목록 조회
             .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/reactions").hasRole("USER") // 게시글 좋아요/싫어요
+            .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/reactions/me").hasRole("USER") // 게시글 내 반응 조회
             .requestMatchers(HttpMethod.GET, "/api/posts/my/writable-posts").hasRole("USER") // 내가 작성한 게시글 목록 조회
             .requestMatchers("/api/comments/**").hasRole("USER") // 댓글 작성/수정/삭제
             .requestMatchers(HttpMethod.GET, "/api/comments/my/writable-comments").hasRole("USER") // 내가 작성한 댓글 목록 조회
             // 관리자만 허용
             .requestMatchers(HttpMethod.PUT, "/api/restaurants/approve/{restaurantId}").hasRole("ADMIN") // 식당 등록 승인
             .requestMatchers(HttpMethod.POST, "/api/restaurants/admin/fetch-restaurants").hasRole("ADMIN") // 식당 가져오기
+            .requestMatchers(HttpMethod.POST, "/api/restaurants/admin/reindex").hasRole("ADMIN") // 식당 전체 재색인
+            .requestMatchers("/actuator/**").hasRole("ADMIN") // 헬스 체크 외 actuator (metrics 등)
             // 그 외는 인증 필요
             .anyRequest().authenticated())
           // jwt filter 추가
@@ -0,0 +1,10 @@
+package matgo.global.lock;
+
+/**
+ * 락을 얻을 때마다 커지는 번호
+ * lease 가 끝난 뒤에도 실행 중인 이전 소유자의 쓰기를 저장소에서 걸러낼 때 사용한다.
+ * {@code @DistributedLock} 메서드에 이 타입의 파라미터가 있으면 AOP 가 값을 채워서 넘긴다.
+ */
+public record FencingToken(long value) {
+
+}
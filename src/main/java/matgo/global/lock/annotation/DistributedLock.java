@@ -10,7 +10,7 @@ import java.util.concurrent.TimeUnit;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
 
-    // 락의 이름
+    // 락의 이름 (SpEL, '-' 앞부분이 metric 의 prefix 가 된다)
     String key();
 
     // 락의 시간 단위
@@ -19,6 +19,6 @@ public @interface DistributedLock {
     // 락을 기다리는 시간 (기본값 5s)
     long waitTime() default 5L;
 
-    // 락을 유지하는 시간 (기본값 3s)
-    long leaseTime() default 3L;
+    // 락을 유지하는 시간 (기본값 -1 : watchdog 이 메서드가 끝날 때까지 lease 를 연장한다)
+    long leaseTime() default -1L;
 }
@@ -12,7 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AopForTransaction {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW) // REQUIRES_NEW : 부모 트랜잭션의 유무에 상관없이 새로운 트랜잭션을 생성
-    public Object proceed(final ProceedingJoinPoint joinPoint) throws Throwable {
-        return joinPoint.proceed();
+    public Object proceed(final ProceedingJoinPoint joinPoint, final Object[] args) throws Throwable {
+        return joinPoint.proceed(args);
     }
 }
@@ -1,29 +1,48 @@
 package matgo.global.lock.aop;
 
 
+import static matgo.global.exception.ErrorCode.LOCK_ACQUISITION_FAILED;
+import static matgo.global.exception.ErrorCode.LOCK_INTERRUPTED;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import matgo.global.lock.FencingToken;
 import matgo.global.lock.annotation.DistributedLock;
-import matgo.global.lock.util.CustomSpringELParser;
+import matgo.global.lock.exception.LockException;
+import matgo.global.lock.provider.LockHandle;
+import matgo.global.lock.provider.LockProvider;
+import matgo.global.lock.util.LockKeyResolver;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+/**
+ * {@code @DistributedLock} 메서드를 {@link LockProvider} 의 락 안에서 새 트랜잭션으로 실행한다.
+ * - leaseTime 을 지정하지 않으면 redis 락은 watchdog 이 메서드가 끝날 때까지 lease 를 연장한다.
+ * - 같은 스레드가 이미 잡은 key 는 다시 잡지 않고 바깥 락과 트랜잭션 안에서 실행한다.
+ * - {@link FencingToken} 파라미터가 있는 메서드만 fencing token 을 발급해서 넘긴다. (redis 면 INCR 한 번이 더 든다)
+ * - 대기 시간, 보유 시간, 경합 횟수를 key prefix 별로 남긴다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DistributedLockAop {
 
-    private static final String REDISSON_LOCK_PREFIX = "LOCK:";
+    // 현재 스레드가 잡고 있는 락과 그 fencing token (아직 발급하지 않았으면 null)
+    private static final ThreadLocal<Map<String, FencingToken>> HELD_LOCKS = ThreadLocal.withInitial(HashMap::new);
 
-    private final RedissonClient redissonClient;
+    private final LockProvider lockProvider;
     private final AopForTransaction aopForTransaction;
+    private final LockKeyResolver lockKeyResolver;
+    private final MeterRegistry meterRegistry;
 
     @Around("@annotation(matgo.global.lock.annotation.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
@@ -31,28 +50,75 @@ public class DistributedLockAop {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
-        String key = REDISSON_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(),
-          joinPoint.getArgs(), distributedLock.key());
-        RLock rLock = redissonClient.getLock(key); // 1. 락 이름으로 RLOCK 인스턴스 생성
+        String key = lockKeyResolver.resolve(method, distributedLock.key(), signature.getParameterNames(),
+          joinPoint.getArgs());
+        String prefix = lockKeyResolver.prefix(key);
+        int fencingTokenIndex = lockKeyResolver.fencingTokenIndex(method);
+
+        Map<String, FencingToken> heldLocks = HELD_LOCKS.get();
+        if (heldLocks.containsKey(key)) {
+            return joinPoint.proceed(withFencingToken(joinPoint.getArgs(), fencingTokenIndex, heldLocks, key, prefix));
+        }
+
+        LockHandle lock = lockProvider.getLock(key);
+        acquire(lock, distributedLock, prefix, key);
+        Timer.Sample holdSample = Timer.start(meterRegistry);
+        try {
+            heldLocks.put(key, null);
+            return aopForTransaction.proceed(joinPoint,
+              withFencingToken(joinPoint.getArgs(), fencingTokenIndex, heldLocks, key, prefix));
+        } finally {
+            heldLocks.remove(key);
+            if (heldLocks.isEmpty()) {
+                HELD_LOCKS.remove();
+            }
+            holdSample.stop(meterRegistry.timer("lock.hold", "prefix", prefix));
+            release(lock, key);
+        }
+    }
 
+    private void acquire(LockHandle lock, DistributedLock distributedLock, String prefix, String key) {
+        Timer.Sample waitSample = Timer.start(meterRegistry);
+        boolean available;
         try {
-            log.info("try lock : {}", key);
-            boolean available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(),
-              distributedLock.timeUnit()); // 2. 락 획득 시도
+            available = lock.tryLock(0, distributedLock.leaseTime(), distributedLock.timeUnit());
             if (!available) {
-                return false;
+                meterRegistry.counter("lock.contention", "prefix", prefix).increment();
+                available = lock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(),
+                  distributedLock.timeUnit());
             }
-            return aopForTransaction.proceed(joinPoint); // 3. 트랜잭션 분리
         } catch (InterruptedException e) {
-            log.error("Redisson Lock Interrupted in {} / {}", method.getName(), key);
-            throw new InterruptedException("락 획득 실패");
-        } finally {
-            try {
-                log.info("unlock : {}", key);
-                rLock.unlock(); // 4. 락 해제
-            } catch (IllegalMonitorStateException e) {
-                log.error("Redisson Lock Already UnLock in {} / {}", method.getName(), key);
-            }
+            Thread.currentThread().interrupt();
+            waitSample.stop(meterRegistry.timer("lock.wait", "prefix", prefix, "result", "interrupted"));
+            throw new LockException(LOCK_INTERRUPTED);
+        }
+
+        waitSample.stop(meterRegistry.timer("lock.wait", "prefix", prefix, "result",
+          available ? "acquired" : "timeout"));
+        if (!available) {
+            log.warn("failed to acquire lock - key: {}", key);
+            throw new LockException(LOCK_ACQUISITION_FAILED);
+        }
+    }
+
+    private void release(LockHandle lock, String key) {
+        try {
+            lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            // leaseTime 을 직접 지정한 락은 메서드보다 먼저 만료될 수 있다.
+            log.warn("lock already released - key: {}", key);
+        }
+    }
+
+    // 같은 락 안에서는 처음 발급한 token 을 다시 넘긴다.
+    private Object[] withFencingToken(Object[] args, int fencingTokenIndex, Map<String, FencingToken> heldLocks,
+      String key, String prefix) {
+        if (fencingTokenIndex < 0) {
+            return args;
         }
+        Object[] replaced = args.clone();
+        replaced[fencingTokenIndex] = heldLocks.computeIfAbsent(key,
+          ignored -> new FencingToken(lockProvider.nextFencingToken(prefix)));
+        return replaced;
     }
 }
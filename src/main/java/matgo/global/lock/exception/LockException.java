@@ -0,0 +1,12 @@
+package matgo.global.lock.exception;
+
+import matgo.global.exception.CustomException;
+import matgo.global.exception.ErrorCode;
+
+public class LockException extends CustomException {
+
+    public LockException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+}
@@ -0,0 +1,58 @@
+package matgo.global.lock.provider;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * local stripe 를 먼저 잡고, 그 다음에 redis 락을 잡는다.
+ * 같은 서버에서 경쟁하는 요청은 JVM 안에서 줄을 서므로 redis 에는 서버마다 한 스레드만 락을 요청한다.
+ */
+@RequiredArgsConstructor
+public class HybridLockProvider implements LockProvider {
+
+    private final StripedLocalLockProvider localLockProvider;
+    private final RedisLockProvider redisLockProvider;
+
+    @Override
+    public LockHandle getLock(String key) {
+        return new HybridLockHandle(localLockProvider.getLock(key), redisLockProvider.getLock(key));
+    }
+
+    @Override
+    public long nextFencingToken(String prefix) {
+        return redisLockProvider.nextFencingToken(prefix);
+    }
+
+    private record HybridLockHandle(LockHandle localLock, LockHandle redisLock) implements LockHandle {
+
+        // local 에서 기다린 시간만큼 redis 락을 기다리는 시간을 줄여서 전체 대기 시간을 waitTime 으로 맞춘다.
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(waitTime);
+            if (!localLock.tryLock(waitTime, leaseTime, unit)) {
+                return false;
+            }
+
+            boolean acquired = false;
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                long lease = leaseTime < 0 ? leaseTime : unit.toNanos(leaseTime);
+                acquired = redisLock.tryLock(remaining, lease, TimeUnit.NANOSECONDS);
+                return acquired;
+            } finally {
+                if (!acquired) {
+                    localLock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                redisLock.unlock();
+            } finally {
+                localLock.unlock();
+            }
+        }
+    }
+}
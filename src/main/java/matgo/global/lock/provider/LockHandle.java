@@ -0,0 +1,14 @@
+package matgo.global.lock.provider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 key 에 대한 락. 락을 얻은 스레드에서 풀어야 한다.
+ */
+public interface LockHandle {
+
+    // leaseTime 이 -1 이면 풀 때까지 유지한다.
+    boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+    void unlock();
+}
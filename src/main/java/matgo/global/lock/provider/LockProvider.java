@@ -0,0 +1,15 @@
+package matgo.global.lock.provider;
+
+/**
+ * {@code @DistributedLock} 이 사용하는 락 구현 (lock.provider 로 선택한다)
+ * - redis : 모든 락을 redis(redisson) 에서 잡는다.
+ * - local : JVM 안의 striped ReentrantLock 만 사용한다. 서버가 하나인 local, test 프로필용
+ * - hybrid : 같은 서버의 경쟁자는 local stripe 에서 줄을 서고, 그 다음에만 redis 락을 잡는다.
+ */
+public interface LockProvider {
+
+    LockHandle getLock(String key);
+
+    // 같은 prefix 안에서 락을 얻을 때마다 커지는 번호
+    long nextFencingToken(String prefix);
+}
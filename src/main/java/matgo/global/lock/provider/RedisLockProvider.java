@@ -0,0 +1,39 @@
+package matgo.global.lock.provider;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+@RequiredArgsConstructor
+public class RedisLockProvider implements LockProvider {
+
+    private static final String REDISSON_LOCK_PREFIX = "LOCK:";
+    private static final String FENCING_TOKEN_PREFIX = "LOCK_FENCE:";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public LockHandle getLock(String key) {
+        return new RedisLockHandle(redissonClient.getLock(REDISSON_LOCK_PREFIX + key));
+    }
+
+    // prefix 마다 카운터 하나만 쓰므로 key 마다 redis 에 카운터가 쌓이지 않는다.
+    @Override
+    public long nextFencingToken(String prefix) {
+        return redissonClient.getAtomicLong(FENCING_TOKEN_PREFIX + prefix).incrementAndGet();
+    }
+
+    private record RedisLockHandle(RLock rLock) implements LockHandle {
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+            return rLock.tryLock(waitTime, leaseTime, unit);
+        }
+
+        @Override
+        public void unlock() {
+            rLock.unlock();
+        }
+    }
+}
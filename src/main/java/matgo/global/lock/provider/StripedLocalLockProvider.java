@@ -0,0 +1,58 @@
+package matgo.global.lock.provider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * key 의 hash 로 고른 ReentrantLock 을 잡는다.
+ * stripe 수가 고정이라 key 가 늘어도 메모리가 늘지 않는 대신, 다른 key 가 같은 stripe 를 나눠 쓸 수 있다.
+ * 같은 stripe 를 기다리는 스레드는 polling 없이 ReentrantLock 의 대기열에서 깨어난다.
+ */
+public class StripedLocalLockProvider implements LockProvider {
+
+    private final ReentrantLock[] stripes;
+    private final Map<String, AtomicLong> fencingTokens = new ConcurrentHashMap<>();
+
+    public StripedLocalLockProvider(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two: " + stripeCount);
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public LockHandle getLock(String key) {
+        return new LocalLockHandle(stripe(key));
+    }
+
+    @Override
+    public long nextFencingToken(String prefix) {
+        return fencingTokens.computeIfAbsent(prefix, ignored -> new AtomicLong()).incrementAndGet();
+    }
+
+    ReentrantLock stripe(String key) {
+        int hash = key.hashCode();
+        // 상위 비트를 섞어서 비슷한 key 가 한 stripe 에 몰리지 않게 한다.
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    // 같은 JVM 안의 락은 프로세스가 죽으면 함께 풀리므로 leaseTime 은 무시한다.
+    private record LocalLockHandle(ReentrantLock lock) implements LockHandle {
+
+        @Override
+        public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+            return lock.tryLock(waitTime, unit);
+        }
+
+        @Override
+        public void unlock() {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package matgo.global.lock.util;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import matgo.global.lock.FencingToken;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @DistributedLock} 의 key(SpEL) 를 메서드 인자로 계산한다.
+ * 메서드마다 한 번만 파싱하고, 자주 호출되면 SpEL 이 바이트코드로 컴파일한다.
+ * {@link FencingToken} 파라미터 위치도 메서드마다 한 번만 찾는다.
+ */
+@Component
+public class LockKeyResolver {
+
+    private static final char PREFIX_DELIMITER = '-';
+
+    private final ExpressionParser parser = new SpelExpressionParser(
+      new SpelParserConfiguration(SpelCompilerMode.MIXED, LockKeyResolver.class.getClassLoader()));
+    private final Map<Method, Expression> expressions = new ConcurrentHashMap<>();
+    private final Map<Method, Integer> fencingTokenIndexes = new ConcurrentHashMap<>();
+
+    public String resolve(Method method, String key, String[] parameterNames, Object[] args) {
+        Expression expression = expressions.computeIfAbsent(method, ignored -> parser.parseExpression(key));
+        // 인자를 변수로만 읽으면 되므로 타입 참조, 생성자 호출 등을 막은 context 를 사용한다.
+        EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return String.valueOf(expression.getValue(context));
+    }
+
+    // FencingToken 파라미터의 위치 (없으면 -1)
+    public int fencingTokenIndex(Method method) {
+        return fencingTokenIndexes.computeIfAbsent(method, ignored -> {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i] == FencingToken.class) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    // metric tag 로 쓰기 위해 식별자를 뗀 key 의 앞부분 (createReview-1-2 -> createReview)
+    public String prefix(String key) {
+        int index = key.indexOf(PREFIX_DELIMITER);
+        return index < 0 ? key : key.substring(0, index);
+    }
+}
@@ -0,0 +1,54 @@
+package matgo.global.pagination;
+
+import static matgo.global.exception.ErrorCode.INVALID_CURSOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 마지막 row 의 정렬 값들을 클라이언트에 넘길 opaque cursor 로 변환한다. (JSON -> base64url)
+ * cursor 에는 정렬 조건(필드와 방향)도 함께 담아서, 다른 정렬로 발급된 cursor 는 값의 수가 같아도 거절한다.
+ */
+public class CursorCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String sort, List<?> values) {
+        try {
+            return Base64.getUrlEncoder()
+                         .withoutPadding()
+                         .encodeToString(OBJECT_MAPPER.writeValueAsBytes(new CursorPayload(sort, new ArrayList<>(values))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("cannot encode cursor values: " + values, e);
+        }
+    }
+
+    public static List<Object> decode(String cursor, String sort, int expectedSize) {
+        CursorPayload payload;
+        try {
+            payload = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CursorPayload.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new CursorException(INVALID_CURSOR);
+        }
+        // 정렬 조건이 바뀐 cursor 는 사용할 수 없다.
+        List<Object> values = payload == null ? null : payload.values();
+        if (values == null || !sort.equals(payload.sort()) || values.size() != expectedSize || values.contains(null)) {
+            throw new CursorException(INVALID_CURSOR);
+        }
+        return values;
+    }
+
+    record CursorPayload(
+      String sort,
+      List<Object> values
+    ) {
+
+    }
+}
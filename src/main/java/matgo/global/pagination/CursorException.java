@@ -0,0 +1,11 @@
+package matgo.global.pagination;
+
+import matgo.global.exception.CustomException;
+import matgo.global.exception.ErrorCode;
+
+public class CursorException extends CustomException {
+
+    public CursorException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
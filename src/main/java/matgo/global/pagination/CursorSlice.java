@@ -0,0 +1,18 @@
+package matgo.global.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorSlice<T>(
+  List<T> content,
+  boolean hasNext,
+  String nextCursor
+) {
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream()
+                                .<R>map(mapper)
+                                .toList();
+        return new CursorSlice<>(mapped, hasNext, nextCursor);
+    }
+}
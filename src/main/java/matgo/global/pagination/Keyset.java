@@ -0,0 +1,123 @@
+package matgo.global.pagination;
+
+import static matgo.global.exception.ErrorCode.INVALID_CURSOR;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.util.StringUtils;
+
+/**
+ * QueryDSL keyset(seek) 페이지네이션.
+ * 정렬 키 마지막에 id 를 붙여서 순서를 고정하고, cursor 에는 마지막 row 의 정렬 키 값들을 담는다.
+ */
+public class Keyset<T> {
+
+    private final List<KeysetOrder<T>> orders;
+    // cursor 에 담는 정렬 조건 (필드:방향,...)
+    private final String sort;
+
+    private Keyset(List<KeysetOrder<T>> orders) {
+        this.orders = orders;
+        this.sort = orders.stream()
+                          .map(order -> order.specifier().getTarget() + ":" + order.specifier().getOrder())
+                          .collect(Collectors.joining(","));
+    }
+
+    // id 는 마지막 정렬 키와 같은 방향으로 붙인다.
+    public static <T> Keyset<T> of(List<KeysetOrder<T>> orders, NumberPath<Long> id, Function<T, Long> idValue) {
+        Order direction = orders.isEmpty() ? Order.DESC : orders.get(orders.size() - 1).specifier().getOrder();
+        List<KeysetOrder<T>> withTiebreaker = new ArrayList<>(orders);
+        withTiebreaker.add(new KeysetOrder<>(new OrderSpecifier<>(direction, id), idValue));
+        return new Keyset<>(withTiebreaker);
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return orders.stream()
+                     .map(KeysetOrder::specifier)
+                     .toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * cursor 다음 row 조건. (k1 > v1) or (k1 = v1 and k2 > v2) or ... (내림차순이면 <)
+     * cursor 가 없으면 null 을 반환하므로 where 절에서 무시된다.
+     */
+    public Predicate after(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        List<Object> values = CursorCodec.decode(cursor, sort, orders.size());
+        BooleanExpression after = null;
+        BooleanExpression equalsSoFar = null;
+        for (int i = 0; i < orders.size(); i++) {
+            OrderSpecifier<?> specifier = orders.get(i).specifier();
+            Expression<?> value = Expressions.constant(convert(values.get(i), specifier.getTarget().getType()));
+            Ops op = specifier.isAscending() ? Ops.GT : Ops.LT;
+
+            BooleanExpression seek = Expressions.booleanOperation(op, specifier.getTarget(), value);
+            BooleanExpression term = equalsSoFar == null ? seek : equalsSoFar.and(seek);
+            after = after == null ? term : after.or(term);
+
+            BooleanExpression equals = Expressions.booleanOperation(Ops.EQ, specifier.getTarget(), value);
+            equalsSoFar = equalsSoFar == null ? equals : equalsSoFar.and(equals);
+        }
+        return after;
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 다음 페이지 여부와 다음 cursor 를 만든다.
+     */
+    public CursorSlice<T> toSlice(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+          ? CursorCodec.encode(sort, cursorValues(content.get(content.size() - 1)))
+          : null;
+        return new CursorSlice<>(content, hasNext, nextCursor);
+    }
+
+    private List<Object> cursorValues(T row) {
+        return orders.stream()
+                     .map(order -> {
+                         Object value = order.value().apply(row);
+                         // LocalDateTime 은 ISO 문자열로 담는다.
+                         return value instanceof LocalDateTime ? value.toString() : value;
+                     })
+                     .toList();
+    }
+
+    private Object convert(Object value, Class<?> type) {
+        try {
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse((String) value);
+            }
+            if (type == Long.class) {
+                return ((Number) value).longValue();
+            }
+            if (type == Integer.class) {
+                return ((Number) value).intValue();
+            }
+            if (type == Double.class) {
+                return ((Number) value).doubleValue();
+            }
+            if (type == String.class) {
+                return (String) value;
+            }
+        } catch (ClassCastException | DateTimeParseException e) {
+            throw new CursorException(INVALID_CURSOR);
+        }
+        throw new CursorException(INVALID_CURSOR);
+    }
+}
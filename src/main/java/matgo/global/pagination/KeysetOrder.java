@@ -0,0 +1,14 @@
+package matgo.global.pagination;
+
+import com.querydsl.core.types.OrderSpecifier;
+import java.util.function.Function;
+
+/**
+ * keyset 정렬 키 하나 (정렬 조건 + 조회 결과에서 cursor 값을 꺼내는 함수)
+ */
+public record KeysetOrder<T>(
+  OrderSpecifier<?> specifier,
+  Function<T, ?> value
+) {
+
+}
@@ -0,0 +1,34 @@
+package matgo.global.reaction;
+
+import matgo.global.type.Reaction;
+
+/**
+ * 반응 변경으로 좋아요/싫어요 수에 더해야 하는 값
+ */
+public record ReactionChange(
+  int likeDelta,
+  int dislikeDelta
+) {
+
+    public static final ReactionChange NONE = new ReactionChange(0, 0);
+
+    public static ReactionChange added(Reaction reaction) {
+        return reaction == Reaction.LIKE ? new ReactionChange(1, 0) : new ReactionChange(0, 1);
+    }
+
+    public static ReactionChange cancelled(Reaction reaction) {
+        return reaction == Reaction.LIKE ? new ReactionChange(-1, 0) : new ReactionChange(0, -1);
+    }
+
+    public static ReactionChange switchedTo(Reaction reaction) {
+        return reaction == Reaction.LIKE ? new ReactionChange(1, -1) : new ReactionChange(-1, 1);
+    }
+
+    public ReactionChange plus(ReactionChange other) {
+        return new ReactionChange(likeDelta + other.likeDelta, dislikeDelta + other.dislikeDelta);
+    }
+
+    public boolean isEmpty() {
+        return likeDelta == 0 && dislikeDelta == 0;
+    }
+}
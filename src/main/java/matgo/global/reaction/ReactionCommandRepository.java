@@ -0,0 +1,97 @@
+package matgo.global.reaction;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import matgo.global.type.Reaction;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리뷰/게시글 반응 토글 ((대상, 회원) 당 row 하나, 취소는 soft delete)
+ * 현재 상태를 읽지 않고 조건부 UPDATE/INSERT 만으로 바꾸므로 락 없이 동시에 호출할 수 있다.
+ * UPDATE 는 커밋된 최신 row 를 기준으로 조건을 다시 확인하기 때문에 같은 회원의 요청이 겹쳐도 한 번씩만 반영된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionCommandRepository {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String CANCEL_SQL = """
+      UPDATE %s SET deleted_at = ?, modified_at = ?
+      WHERE %s = ? AND member_id = ? AND type = ? AND deleted_at IS NULL""";
+
+    private static final String SWITCH_SQL = """
+      UPDATE %s SET type = ?, modified_at = ?
+      WHERE %s = ? AND member_id = ? AND type <> ? AND deleted_at IS NULL""";
+
+    private static final String REVIVE_SQL = """
+      UPDATE %s SET type = ?, deleted_at = NULL, modified_at = ?
+      WHERE %s = ? AND member_id = ? AND deleted_at IS NOT NULL""";
+
+    private static final String INSERT_SQL = """
+      INSERT INTO %s (%s, member_id, type, created_at, modified_at) VALUES (?, ?, ?, ?, ?)""";
+
+    private static final String DELETE_ALL_SQL = """
+      UPDATE %s SET deleted_at = ?, modified_at = ? WHERE %s = ? AND deleted_at IS NULL""";
+
+    private static final String ADD_COUNT_SQL = """
+      UPDATE %s SET like_count = like_count + ?, dislike_count = dislike_count + ? WHERE id = ?""";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReactionChange toggle(ReactionTarget target, Long targetId, Long memberId, Reaction reaction) {
+        String type = reaction.name();
+        for (int attempt = 1; ; attempt++) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            // 같은 반응이 있으면 취소
+            if (update(CANCEL_SQL, target, now, now, targetId, memberId, type) == 1) {
+                return ReactionChange.cancelled(reaction);
+            }
+            // 다른 반응이 있으면 변경
+            if (update(SWITCH_SQL, target, type, now, targetId, memberId, type) == 1) {
+                return ReactionChange.switchedTo(reaction);
+            }
+            // 취소했던 반응이 있으면 되살림
+            if (update(REVIVE_SQL, target, type, now, targetId, memberId) == 1) {
+                return ReactionChange.added(reaction);
+            }
+
+            try {
+                update(INSERT_SQL, target, targetId, memberId, type, now, now);
+                return ReactionChange.added(reaction);
+            } catch (DuplicateKeyException e) {
+                // 같은 회원의 다른 요청이 먼저 row 를 만들었으므로 UPDATE 부터 다시 시도한다.
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 대상이 삭제될 때 남은 반응을 한 번에 soft delete 한다.
+    public void deleteAll(ReactionTarget target, Long targetId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        update(DELETE_ALL_SQL, target, now, now, targetId);
+    }
+
+    // 대상별로 모아둔 좋아요/싫어요 증감을 DB 에서 더한다.
+    public void addCounts(ReactionTarget target, Map<Long, ReactionChange> changes) {
+        jdbcTemplate.batchUpdate(ADD_COUNT_SQL.formatted(target.getTable()), changes.entrySet(), BATCH_SIZE,
+          (ps, change) -> {
+              ps.setInt(1, change.getValue().likeDelta());
+              ps.setInt(2, change.getValue().dislikeDelta());
+              ps.setLong(3, change.getKey());
+          });
+    }
+
+    private int update(String sql, ReactionTarget target, Object... params) {
+        return jdbcTemplate.update(sql.formatted(target.getReactionTable(), target.getTargetColumn()), params);
+    }
+}
@@ -0,0 +1,23 @@
+package matgo.global.reaction;
+
+/**
+ * 대상(리뷰/게시글)에 저장된 좋아요/싫어요 수와 반응 테이블에서 다시 센 수
+ */
+public record ReactionCountAggregate(
+  Long targetId,
+  int likeCount,
+  int dislikeCount,
+  int actualLikeCount,
+  int actualDislikeCount
+) {
+
+    // 아직 DB 에 더해지지 않은 증감은 flush 될 때 더해지므로, 저장돼야 할 값에서 미리 뺀다.
+    public ReactionCountAggregate minusPending(ReactionChange pending) {
+        return new ReactionCountAggregate(targetId, likeCount, dislikeCount,
+          actualLikeCount - pending.likeDelta(), actualDislikeCount - pending.dislikeDelta());
+    }
+
+    public boolean isDrifted() {
+        return likeCount != actualLikeCount || dislikeCount != actualDislikeCount;
+    }
+}
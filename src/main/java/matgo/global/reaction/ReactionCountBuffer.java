@@ -0,0 +1,166 @@
+package matgo.global.reaction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요/싫어요 수 증감을 대상별 LongAdder 에 모아두고 주기적으로 DB 에 한 번에 더한다.
+ * 조회할 때는 아직 반영되지 않은 증감을 더해서 보여준다.
+ * flush 는 scheduler pool(spring.task.scheduling.pool.size) 에서 돌기 때문에 식당 수집 같은 긴 cron 작업이 있어도 주기가 밀리지 않는다.
+ */
+@Slf4j
+@Component
+public class ReactionCountBuffer {
+
+    private final ReactionCommandRepository reactionCommandRepository;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushTimer;
+
+    // flush 할 때 map 을 통째로 교체하고, 교체된 map 은 다음 flush 에서 한 번 더 비운 뒤에 버린다.
+    private volatile ConcurrentMap<CountKey, CountCell> active = new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<CountKey, CountCell> retired = new ConcurrentHashMap<>();
+    // flush 가 cell 에서 꺼내 DB 에 보내는 중인 증감. addCounts 가 끝날 때까지 pending 에 포함한다.
+    private volatile Map<ReactionTarget, Map<Long, ReactionChange>> inFlight = Map.of();
+
+    public ReactionCountBuffer(ReactionCommandRepository reactionCommandRepository, MeterRegistry meterRegistry) {
+        this.reactionCommandRepository = reactionCommandRepository;
+        Gauge.builder("reaction.count.buffer.size", this, buffer -> buffer.active.size())
+             .description("DB 반영을 기다리는 반응 대상 수")
+             .register(meterRegistry);
+        this.flushTimer = Timer.builder("reaction.count.buffer.flush")
+                               .description("모아둔 좋아요/싫어요 수를 DB 에 반영하는 데 걸린 시간")
+                               .register(meterRegistry);
+    }
+
+    public void add(ReactionTarget target, Long targetId, ReactionChange change) {
+        if (change.isEmpty()) {
+            return;
+        }
+        active.computeIfAbsent(new CountKey(target, targetId), key -> new CountCell())
+              .add(change);
+    }
+
+    public Map<Long, ReactionChange> pending(ReactionTarget target, Collection<Long> targetIds) {
+        Map<Long, ReactionChange> pending = new HashMap<>();
+        Map<Long, ReactionChange> sending = inFlight.getOrDefault(target, Map.of());
+        for (Long targetId : targetIds) {
+            CountKey key = new CountKey(target, targetId);
+            ReactionChange change = sum(active.get(key)).plus(sum(retired.get(key)))
+                                                        .plus(sending.getOrDefault(targetId, ReactionChange.NONE));
+            if (!change.isEmpty()) {
+                pending.put(targetId, change);
+            }
+        }
+        return pending;
+    }
+
+    @Scheduled(fixedDelayString = "${reaction.count-buffer.flush-interval-ms:3000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            ConcurrentMap<CountKey, CountCell> previous = retired;
+            retired = active;
+            active = new ConcurrentHashMap<>();
+
+            // 교체 직전에 이전 map 의 cell 을 잡은 요청이 늦게 더한 값도 같이 비운다.
+            // cell 에서 꺼낸 값이 pending 에서 사라지지 않도록 먼저 inFlight 로 보이게 한 뒤에 옮겨 담는다.
+            Map<ReactionTarget, Map<Long, ReactionChange>> changes = new ConcurrentHashMap<>();
+            inFlight = changes;
+            drainInto(previous, changes);
+            drainInto(retired, changes);
+            if (!changes.isEmpty()) {
+                flushTimer.record(() -> changes.forEach(this::send));
+            }
+        } finally {
+            inFlight = Map.of();
+            flushLock.unlock();
+        }
+    }
+
+    // DB 의 수와 pending 을 함께 읽고 고치는 작업(재계산)이 도는 동안에는 flush 가 끼어들지 않게 한다.
+    public <T> T pausingFlush(Supplier<T> task) {
+        flushLock.lock();
+        try {
+            return task.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        // 교체된 map 까지 비우도록 두 번 반영한다.
+        flush();
+        flush();
+    }
+
+    private void drainInto(Map<CountKey, CountCell> cells, Map<ReactionTarget, Map<Long, ReactionChange>> changes) {
+        cells.forEach((key, cell) -> {
+            ReactionChange change = cell.drain();
+            if (!change.isEmpty()) {
+                changes.computeIfAbsent(key.target(), target -> new ConcurrentHashMap<>())
+                       .merge(key.targetId(), change, ReactionChange::plus);
+            }
+        });
+    }
+
+    private void send(ReactionTarget target, Map<Long, ReactionChange> changes) {
+        try {
+            reactionCommandRepository.addCounts(target, changes);
+            inFlight.remove(target);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영한다. (다시 모은 값과 겹쳐 보이지 않도록 보내는 중인 목록에서 먼저 뺀다)
+            inFlight.remove(target);
+            changes.forEach((targetId, change) -> add(target, targetId, change));
+            log.error("failed to flush reaction counts - target: {}, size: {}", target, changes.size(), e);
+        }
+    }
+
+    private ReactionChange sum(CountCell cell) {
+        return cell != null ? cell.sum() : ReactionChange.NONE;
+    }
+
+    private record CountKey(
+      ReactionTarget target,
+      Long targetId
+    ) {
+
+    }
+
+    private static class CountCell {
+
+        private final LongAdder likeDelta = new LongAdder();
+        private final LongAdder dislikeDelta = new LongAdder();
+
+        void add(ReactionChange change) {
+            if (change.likeDelta() != 0) {
+                likeDelta.add(change.likeDelta());
+            }
+            if (change.dislikeDelta() != 0) {
+                dislikeDelta.add(change.dislikeDelta());
+            }
+        }
+
+        ReactionChange sum() {
+            return new ReactionChange(likeDelta.intValue(), dislikeDelta.intValue());
+        }
+
+        // sumThenReset 은 cell 마다 getAndSet 으로 비우므로 동시에 더해진 값이 사라지지 않는다.
+        ReactionChange drain() {
+            return new ReactionChange((int) likeDelta.sumThenReset(), (int) dislikeDelta.sumThenReset());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package matgo.global.reaction;
+
+import static matgo.global.reaction.ReactionChange.NONE;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰/게시글의 like_count, dislike_count 를 반응 테이블 기준으로 다시 맞춘다.
+ * 대상을 id 순서로 batch 단위로 읽고, 아직 flush 되지 않은 증감을 뺀 값과 다른 대상만 고친다.
+ * batch 를 읽고 고치는 동안에는 buffer flush 를 멈춰서, flush 된 증감을 두 번 빼거나 빠뜨리지 않는다.
+ */
+@Slf4j
+@Component
+public class ReactionCountReconciler {
+
+    private final ReactionCountRepository reactionCountRepository;
+    private final ReactionCountBuffer reactionCountBuffer;
+    private final int batchSize;
+
+    private final Counter reconciledCounter;
+
+    public ReactionCountReconciler(
+      ReactionCountRepository reactionCountRepository,
+      ReactionCountBuffer reactionCountBuffer,
+      MeterRegistry meterRegistry,
+      @Value("${reaction.count-reconcile.batch-size:500}") int batchSize
+    ) {
+        this.reactionCountRepository = reactionCountRepository;
+        this.reactionCountBuffer = reactionCountBuffer;
+        this.batchSize = batchSize;
+        this.reconciledCounter = Counter.builder("reaction.count.reconciled")
+                                        .description("반응 테이블 기준으로 좋아요/싫어요 수를 다시 맞춘 대상 수")
+                                        .register(meterRegistry);
+    }
+
+    // 매일 새벽 5시에 실행
+    @Scheduled(cron = "${reaction.count-reconcile.cron:0 0 5 * * *}")
+    public void reconcile() {
+        for (ReactionTarget target : ReactionTarget.values()) {
+            int reconciled = reconcile(target);
+            log.info("reconciled reaction counts - target: {}, targets: {}", target, reconciled);
+        }
+    }
+
+    private int reconcile(ReactionTarget target) {
+        long lastTargetId = 0;
+        int reconciled = 0;
+        int read;
+        do {
+            long afterId = lastTargetId;
+            BatchResult result = reactionCountBuffer.pausingFlush(() -> reconcileBatch(target, afterId));
+            read = result.read();
+            reconciled += result.reconciled();
+            lastTargetId = result.lastTargetId();
+        } while (read == batchSize);
+
+        reconciledCounter.increment(reconciled);
+        return reconciled;
+    }
+
+    private BatchResult reconcileBatch(ReactionTarget target, long lastTargetId) {
+        List<ReactionCountAggregate> aggregates = reactionCountRepository.findAggregatesAfter(target, lastTargetId,
+          batchSize);
+        if (aggregates.isEmpty()) {
+            return new BatchResult(0, 0, lastTargetId);
+        }
+
+        List<Long> targetIds = aggregates.stream()
+                                         .map(ReactionCountAggregate::targetId)
+                                         .toList();
+        Map<Long, ReactionChange> pending = reactionCountBuffer.pending(target, targetIds);
+        List<ReactionCountAggregate> drifted = aggregates.stream()
+                                                         .map(aggregate -> aggregate.minusPending(
+                                                           pending.getOrDefault(aggregate.targetId(), NONE)))
+                                                         .filter(ReactionCountAggregate::isDrifted)
+                                                         .toList();
+        int reconciled = drifted.isEmpty() ? 0 : reactionCountRepository.updateCounts(target, drifted).size();
+        return new BatchResult(aggregates.size(), reconciled, aggregates.get(aggregates.size() - 1).targetId());
+    }
+
+    private record BatchResult(
+      int read,
+      int reconciled,
+      long lastTargetId
+    ) {
+
+    }
+}
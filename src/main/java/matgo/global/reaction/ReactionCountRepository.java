@@ -0,0 +1,63 @@
+package matgo.global.reaction;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요/싫어요 수(like_count, dislike_count) 재계산용
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionCountRepository {
+
+    // 대상을 id 순서로 끊어 읽고, 그 대상들의 반응만 (대상 id, member_id) 인덱스로 센다.
+    private static final String FIND_AGGREGATES_SQL = """
+      SELECT t.id, t.like_count, t.dislike_count,
+             COUNT(CASE WHEN r.type = 'LIKE' THEN 1 END) AS actual_like_count,
+             COUNT(CASE WHEN r.type = 'DISLIKE' THEN 1 END) AS actual_dislike_count
+      FROM (SELECT id, like_count, dislike_count FROM %1$s
+            WHERE id > ? AND deleted_at IS NULL ORDER BY id LIMIT ?) t
+      LEFT JOIN %2$s r ON r.%3$s = t.id AND r.deleted_at IS NULL
+      GROUP BY t.id, t.like_count, t.dislike_count
+      ORDER BY t.id""";
+
+    // 읽은 뒤에 수가 바뀐 대상은 건너뛰고 다음 실행에서 다시 맞춘다.
+    private static final String UPDATE_COUNT_SQL = """
+      UPDATE %s SET like_count = ?, dislike_count = ?
+      WHERE id = ? AND like_count = ? AND dislike_count = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ReactionCountAggregate> findAggregatesAfter(ReactionTarget target, long lastTargetId, int batchSize) {
+        String sql = FIND_AGGREGATES_SQL.formatted(target.getTable(), target.getReactionTable(),
+          target.getTargetColumn());
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReactionCountAggregate(
+          rs.getLong("id"),
+          rs.getInt("like_count"),
+          rs.getInt("dislike_count"),
+          rs.getInt("actual_like_count"),
+          rs.getInt("actual_dislike_count")
+        ), lastTargetId, batchSize);
+    }
+
+    // 실제로 바뀐 대상 id 만 돌려준다. (드라이버가 건수를 알려주지 않으면 바뀐 것으로 본다)
+    public List<Long> updateCounts(ReactionTarget target, List<ReactionCountAggregate> aggregates) {
+        List<Object[]> params = aggregates.stream()
+                                          .map(aggregate -> new Object[]{
+                                            aggregate.actualLikeCount(),
+                                            aggregate.actualDislikeCount(),
+                                            aggregate.targetId(),
+                                            aggregate.likeCount(),
+                                            aggregate.dislikeCount()
+                                          })
+                                          .toList();
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_COUNT_SQL.formatted(target.getTable()), params);
+        return IntStream.range(0, updated.length)
+                        .filter(i -> updated[i] != 0)
+                        .mapToObj(i -> aggregates.get(i).targetId())
+                        .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package matgo.global.reaction;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import matgo.global.type.Reaction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원의 리뷰/게시글 반응 조회
+ * (대상, 회원) unique index 로 한 row 만 읽으므로 대상의 반응 수와 상관없이 비용이 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionQueryRepository {
+
+    private static final String FIND_REACTION_SQL = """
+      SELECT type FROM %s WHERE %s = ? AND member_id = ? AND deleted_at IS NULL""";
+
+    private static final String FIND_REACTIONS_SQL = """
+      SELECT %2$s AS target_id, type FROM %1$s WHERE %2$s IN (%3$s) AND member_id = ? AND deleted_at IS NULL""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Reaction> findReaction(ReactionTarget target, Long targetId, Long memberId) {
+        String sql = FIND_REACTION_SQL.formatted(target.getReactionTable(), target.getTargetColumn());
+        return jdbcTemplate.query(sql, (rs, rowNum) -> Reaction.valueOf(rs.getString("type")), targetId, memberId)
+                           .stream()
+                           .findFirst();
+    }
+
+    // 목록 한 페이지에 대한 회원의 반응을 IN 쿼리 한 번으로 읽는다. (반응이 없는 대상은 map 에 없다)
+    public Map<Long, Reaction> findReactions(ReactionTarget target, Collection<Long> targetIds, Long memberId) {
+        if (targetIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(targetIds.size(), "?"));
+        String sql = FIND_REACTIONS_SQL.formatted(target.getReactionTable(), target.getTargetColumn(), placeholders);
+        Object[] params = new Object[targetIds.size() + 1];
+        int index = 0;
+        for (Long targetId : targetIds) {
+            params[index++] = targetId;
+        }
+        params[index] = memberId;
+
+        Map<Long, Reaction> reactions = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            reactions.put(rs.getLong("target_id"), Reaction.valueOf(rs.getString("type")));
+        }, params);
+        return reactions;
+    }
+}
@@ -0,0 +1,15 @@
+package matgo.global.reaction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReactionTarget {
+    REVIEW("review", "review_reaction", "review_id"),
+    POST("post", "post_reaction", "post_id");
+
+    private final String table;
+    private final String reactionTable;
+    private final String targetColumn;
+}
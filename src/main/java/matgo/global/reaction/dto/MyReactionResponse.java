@@ -0,0 +1,10 @@
+package matgo.global.reaction.dto;
+
+import matgo.global.type.Reaction;
+
+// 반응이 없으면 reaction 은 null
+public record MyReactionResponse(
+  Reaction reaction
+) {
+
+}
@@ -96,13 +96,13 @@ public class MemberService {
     }
 
 
-    public void updateMember(Long memberId, MemberUpdateRequest memberUpdateRequest, MultipartFile profileImage) {
+    // 지역은 access token claim 에도 들어있으므로, 지역이 바뀌었으면 true 를 반환해서 토큰을 다시 발급하게 한다.
+    public boolean updateMember(Long memberId, MemberUpdateRequest memberUpdateRequest, MultipartFile profileImage) {
         Member member = getMemberById(memberId);
 
         updateProfileImageIfPresent(member, profileImage);
         updateNicknameIfChanged(member, memberUpdateRequest.nickname());
-        updateRegionIfChanged(member, memberUpdateRequest.region());
-
+        return updateRegionIfChanged(member, memberUpdateRequest.region());
     }
 
     private Member getMemberById(Long memberId) {
@@ -126,11 +126,14 @@ public class MemberService {
         }
     }
 
-    private void updateRegionIfChanged(Member member, String newRegionName) {
-        if (newRegionName != null && !newRegionName.isEmpty()) {
-            Region region = getRegion(newRegionName);
-            member.changeRegion(region);
+    private boolean updateRegionIfChanged(Member member, String newRegionName) {
+        if (newRegionName == null || newRegionName.isEmpty() || newRegionName.equals(member.getRegion().getName())) {
+            return false;
         }
+
+        Region region = getRegion(newRegionName);
+        member.changeRegion(region);
+        return true;
     }
 
     public void resetPassword(Long memberId, ResetPasswordRequest resetPasswordRequest) {
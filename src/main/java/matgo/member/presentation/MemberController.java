@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import matgo.auth.application.AuthService;
 import matgo.auth.security.OnlyUser;
 import matgo.member.application.MemberService;
 import matgo.member.dto.request.MemberUpdateRequest;
@@ -11,6 +12,7 @@ import matgo.member.dto.request.ResetPasswordRequest;
 import matgo.member.dto.request.SignUpRequest;
 import matgo.member.dto.response.MemberResponse;
 import matgo.member.dto.response.SignUpResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -32,7 +34,10 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class MemberController {
 
+    private static final String BEARER = "Bearer ";
+
     private final MemberService memberService;
+    private final AuthService authService;
 
     // 회원가입
     @PostMapping("/signup")
@@ -53,7 +58,13 @@ public class MemberController {
       @Valid @RequestPart MemberUpdateRequest memberUpdateRequest,
       @RequestPart(required = false) MultipartFile profileImage
     ) {
-        memberService.updateMember(Long.parseLong(userDetails.getUsername()), memberUpdateRequest, profileImage);
+        Long memberId = Long.parseLong(userDetails.getUsername());
+        if (memberService.updateMember(memberId, memberUpdateRequest, profileImage)) {
+            // 지역이 바뀌면 새 지역 claim 이 담긴 토큰을 내려준다.
+            return ResponseEntity.noContent()
+                                 .header(HttpHeaders.AUTHORIZATION, BEARER + authService.reissueToken(memberId))
+                                 .build();
+        }
         return ResponseEntity.noContent().build();
     }
 
@@ -6,7 +6,6 @@ import static matgo.global.exception.ErrorCode.NOT_FOUND_POST_COMMENT;
 import static matgo.global.exception.ErrorCode.NOT_OWNER_POST_COMMENT;
 
 import lombok.RequiredArgsConstructor;
-import matgo.global.lock.annotation.DistributedLock;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
@@ -32,23 +31,22 @@ public class PostCommentService {
     private final PostCommentRepository postCommentRepository;
     private final PostCommentQueryRepository postCommentQueryRepository;
 
-    @DistributedLock(key = "'createComment-' + #postId")
+    // 댓글 수는 DB 에서 원자적으로 더하므로 게시글 단위 락 없이 처리한다.
+    // 댓글 insert 가 FK 로 게시글 row 에 공유 락을 잡기 전에 먼저 배타 락을 잡아서, 공유 락 -> 배타 락 승격으로 인한 데드락을 피한다.
+    @Transactional
     public void createComment(Long memberId, Long postId, PostCommentCreateRequest postCommentCreateRequest) {
-        Post post = getPostById(postId);
         Member member = getMemberById(memberId);
+        if (postRepository.increaseCommentCount(postId) == 0) {
+            throw new PostException(NOT_FOUND_POST);
+        }
 
+        Post post = postRepository.getReferenceById(postId);
         PostComment postComment = PostCommentCreateRequest.toEntity(post, member, postCommentCreateRequest);
-        post.addPostComment(postComment);
         member.addPostComment(postComment);
 
         postCommentRepository.save(postComment);
     }
 
-    private Post getPostById(Long postId) {
-        return postRepository.findById(postId)
-                             .orElseThrow(() -> new PostException(NOT_FOUND_POST));
-    }
-
     @Transactional
     public void updateComment(Long memberId, Long commentId,
       PostCommentUpdateRequest postCommentUpdateRequest) {
@@ -71,16 +69,16 @@ public class PostCommentService {
         }
     }
 
-    @DistributedLock(key = "'deleteComment-' + #postId")
+    @Transactional
     public void deleteComment(Long memberId, Long commentId) {
         Member member = getMemberById(memberId);
         PostComment postComment = getPostCommentById(commentId);
-        Post post = postComment.getPost();
         checkPostCommentOwner(member, postComment);
 
-        member.removePostComment(postComment);
-        post.removePostComment(postComment);
-        postCommentRepository.delete(postComment);
+        // soft delete 를 실제로 한 요청만 댓글 수를 줄인다.
+        if (postCommentRepository.softDeleteById(commentId) > 0) {
+            postRepository.decreaseCommentCount(postComment.getPost().getId());
+        }
     }
 
     private Member getMemberById(Long memberId) {
@@ -93,8 +91,25 @@ public class PostCommentService {
                                     .orElseThrow(() -> new PostException(NOT_FOUND_POST_COMMENT));
     }
 
+    // 게시글 상세의 댓글 첫 페이지와 같은 순서라서 상세의 nextCursor 로 이어서 조회할 수 있다.
+    // 게시글 상세와 마찬가지로 내 지역의 게시글 댓글만 조회할 수 있다.
+    @Transactional(readOnly = true)
+    public PostCommentSliceResponse getComments(Long memberId, Long regionId, Long postId, Pageable pageable,
+      String cursor) {
+        if (!postRepository.existsByIdAndRegionId(postId, resolveRegionId(memberId, regionId))) {
+            throw new PostException(NOT_FOUND_POST);
+        }
+
+        return postCommentQueryRepository.findAllByPostId(postId, pageable.getPageSize(), cursor);
+    }
+
+    // 지역은 토큰 claim 으로 받고, claim 이 없는 이전 토큰일 때만 회원을 조회한다.
+    private Long resolveRegionId(Long memberId, Long regionId) {
+        return regionId != null ? regionId : getMemberById(memberId).getRegion().getId();
+    }
+
     @Transactional(readOnly = true)
-    public PostCommentSliceResponse getMyComments(Long memberId, Pageable pageable) {
-        return postCommentQueryRepository.findAllByMemberId(memberId, pageable);
+    public PostCommentSliceResponse getMyComments(Long memberId, Pageable pageable, String cursor) {
+        return postCommentQueryRepository.findAllByMemberId(memberId, pageable, cursor);
     }
 }
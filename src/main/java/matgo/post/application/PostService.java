@@ -3,32 +3,38 @@ package matgo.post.application;
 import static matgo.global.exception.ErrorCode.IMAGES_SIZE_EXCEED;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_MEMBER;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_POST;
-import static matgo.global.exception.ErrorCode.NOT_FOUND_POST_REACTION;
 import static matgo.global.exception.ErrorCode.NOT_OWNER_POST;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import matgo.global.filesystem.s3.S3Service;
-import matgo.global.lock.annotation.DistributedLock;
+import matgo.global.reaction.ReactionChange;
+import matgo.global.reaction.ReactionCommandRepository;
+import matgo.global.reaction.ReactionCountBuffer;
+import matgo.global.reaction.ReactionQueryRepository;
+import matgo.global.reaction.ReactionTarget;
+import matgo.global.reaction.dto.MyReactionResponse;
 import matgo.global.type.Reaction;
 import matgo.global.type.S3Directory;
+import matgo.global.util.TransactionUtil;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
 import matgo.post.domain.entity.Post;
 import matgo.post.domain.entity.PostImage;
-import matgo.post.domain.entity.PostReaction;
+import matgo.post.domain.repository.PostCommentQueryRepository;
 import matgo.post.domain.repository.PostImageRepository;
 import matgo.post.domain.repository.PostQueryRepository;
-import matgo.post.domain.repository.PostReactionRepository;
 import matgo.post.domain.repository.PostRepository;
 import matgo.post.dto.request.PostCreateRequest;
 import matgo.post.dto.request.PostUpdateRequest;
 import matgo.post.dto.response.MyPostSliceResponse;
 import matgo.post.dto.response.PostCreateResponse;
 import matgo.post.dto.response.PostDetailResponse;
+import matgo.post.dto.response.PostListResponse;
 import matgo.post.dto.response.PostSliceResponse;
 import matgo.post.exception.PostException;
 import org.springframework.data.domain.Pageable;
@@ -41,11 +47,17 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class PostService {
 
+    // 게시글 상세에 함께 내려주는 댓글 수
+    private static final int DETAIL_COMMENT_SIZE = 20;
+
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final PostQueryRepository postQueryRepository;
+    private final PostCommentQueryRepository postCommentQueryRepository;
     private final PostImageRepository postImageRepository;
-    private final PostReactionRepository postReactionRepository;
+    private final ReactionCommandRepository reactionCommandRepository;
+    private final ReactionQueryRepository reactionQueryRepository;
+    private final ReactionCountBuffer reactionCountBuffer;
     private final S3Service s3Service;
 
     @Transactional
@@ -146,76 +158,91 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
-    public PostDetailResponse getPostDetailByRegion(Long memberId, Long postId) {
-        Member member = getMemberById(memberId);
-        return postQueryRepository.findPostDetailResponseById(member.getRegion().getId(), postId)
-                                  .orElseThrow(() -> new PostException(NOT_FOUND_POST));
+    public PostDetailResponse getPostDetailByRegion(Long memberId, Long regionId, Long postId, String commentCursor) {
+        PostListResponse post = postQueryRepository.findPostById(resolveRegionId(memberId, regionId), postId)
+                                                   .orElseThrow(() -> new PostException(NOT_FOUND_POST));
+        ReactionChange change = reactionCountBuffer.pending(ReactionTarget.POST, List.of(postId)).get(postId);
+        if (change != null) {
+            post = post.withPost(post.post().withReactionChange(change));
+        }
+
+        return PostDetailResponse.of(post, postQueryRepository.findImageUrlsByPostId(postId),
+          postCommentQueryRepository.findAllByPostId(postId, DETAIL_COMMENT_SIZE, commentCursor));
     }
 
     @Transactional(readOnly = true)
-    public PostSliceResponse getPostsByRegion(Long memberId, Pageable pageable) {
-        Member member = getMemberById(memberId);
-        return postQueryRepository.findAllPostSliceByRegionId(member.getRegion().getId(), pageable);
+    public PostSliceResponse getPostsByRegion(Long memberId, Long regionId, Pageable pageable, String cursor) {
+        return withMyReaction(withPendingReaction(postQueryRepository.findAllPostSliceByRegionId(
+          resolveRegionId(memberId, regionId), pageable, cursor)), memberId);
     }
 
-    @DistributedLock(key = "'addPostReaction-' + #postId")
-    public void addPostReaction(Long memberId, Long postId, Reaction reactionType) {
-        Post post = getPostById(postId);
-        Member member = getMemberById(memberId);
+    // 지역은 토큰 claim 으로 받고, claim 이 없는 이전 토큰일 때만 회원을 조회한다.
+    private Long resolveRegionId(Long memberId, Long regionId) {
+        return regionId != null ? regionId : getMemberById(memberId).getRegion().getId();
+    }
 
-        // 이미 반응이 있다면 기존 반응 삭제 후 새로운 반응으로 업데이트
-        if (post.hasReaction(member)) {
-            updateReaction(post, member, reactionType);
-        } else {
-            addReaction(post, member, reactionType);
+    // 목록에 있는 게시글에 대한 내 반응을 한 번에 조회해서 채운다.
+    private PostSliceResponse withMyReaction(PostSliceResponse response, Long memberId) {
+        Map<Long, Reaction> reactions = reactionQueryRepository.findReactions(ReactionTarget.POST,
+          response.posts().stream().map(post -> post.post().id()).toList(), memberId);
+        if (reactions.isEmpty()) {
+            return response;
         }
-
-        postRepository.save(post);
+        return new PostSliceResponse(response.posts()
+                                             .stream()
+                                             .map(post -> post.withMyReaction(reactions.get(post.post().id())))
+                                             .toList(), response.hasNext(), response.nextCursor());
+    }
+
+    // 아직 DB 에 반영되지 않은 좋아요/싫어요 수를 더해서 방금 누른 반응이 바로 보이게 한다.
+    private PostSliceResponse withPendingReaction(PostSliceResponse response) {
+        Map<Long, ReactionChange> pending = reactionCountBuffer.pending(ReactionTarget.POST,
+          response.posts().stream().map(post -> post.post().id()).toList());
+        if (pending.isEmpty()) {
+            return response;
+        }
+        return new PostSliceResponse(response.posts()
+                                             .stream()
+                                             .map(post -> withPendingReaction(post, pending))
+                                             .toList(), response.hasNext(), response.nextCursor());
     }
 
-    private Member getMemberById(Long memberId) {
-        return memberRepository.findById(memberId)
-                               .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+    private PostListResponse withPendingReaction(PostListResponse response, Map<Long, ReactionChange> pending) {
+        ReactionChange change = pending.get(response.post().id());
+        if (change == null) {
+            return response;
+        }
+        return response.withPost(response.post().withReactionChange(change));
     }
 
-    private void updateReaction(Post post, Member member, Reaction reaction) {
-        PostReaction postReaction = post.getPostReactions()
-                                        .stream()
-                                        .filter(r -> r.getMember().getId().equals(member.getId()))
-                                        .findFirst()
-                                        .orElseThrow(
-                                          () -> new PostException(NOT_FOUND_POST_REACTION));
-
-        // 기존 반응과 같다면 반응 삭제 (아무것도 안누른 상태로 변경)
-        if (postReaction.getReaction() == reaction) {
-            postReactionRepository.delete(postReaction);
-            post.removePostReaction(postReaction);
-            if (reaction == Reaction.LIKE) {
-                post.decreaseLikeCount();
-            } else {
-                post.decreaseDislikeCount();
-            }
-        } else { // 기존 반응과 다르다면 반응 업데이트
-            postReaction.changeReaction(reaction);
-            if (reaction == Reaction.LIKE) {
-                post.increaseLikeCount();
-                post.decreaseDislikeCount();
-            } else {
-                post.increaseDislikeCount();
-                post.decreaseLikeCount();
-            }
+    // 반응 row 와 좋아요/싫어요 수를 조건부 SQL 로 바꿔서 락 없이 동시에 처리한다.
+    @Transactional
+    public void addPostReaction(Long memberId, Long postId, Reaction reactionType) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostException(NOT_FOUND_POST);
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberException(NOT_FOUND_MEMBER);
         }
+
+        ReactionChange change = reactionCommandRepository.toggle(ReactionTarget.POST, postId, memberId, reactionType);
+        // 좋아요/싫어요 수는 buffer 에 모아서 주기적으로 반영한다.
+        TransactionUtil.afterCommit(() -> reactionCountBuffer.add(ReactionTarget.POST, postId, change));
     }
 
-    private void addReaction(Post post, Member member, Reaction reaction) {
-        PostReaction postReaction = PostReaction.from(post, member, reaction);
-        post.addPostReaction(postReaction);
-        postReactionRepository.save(postReaction);
-        if (reaction == Reaction.LIKE) {
-            post.increaseLikeCount();
-        } else {
-            post.increaseDislikeCount();
+    @Transactional(readOnly = true)
+    public MyReactionResponse getMyPostReaction(Long memberId, Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostException(NOT_FOUND_POST);
         }
+
+        return new MyReactionResponse(reactionQueryRepository.findReaction(ReactionTarget.POST, postId, memberId)
+                                                             .orElse(null));
+    }
+
+    private Member getMemberById(Long memberId) {
+        return memberRepository.findById(memberId)
+                               .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
     }
 
     @Transactional(readOnly = true)
@@ -1,8 +1,5 @@
 package matgo.post.domain.entity;
 
-import static matgo.global.exception.ErrorCode.CANNOT_DECREASE_DISLIKE_COUNT;
-import static matgo.global.exception.ErrorCode.CANNOT_DECREASE_LIKE_COUNT;
-
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +8,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -25,14 +23,19 @@ import lombok.NoArgsConstructor;
 import matgo.global.entity.BaseEntity;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.entity.Region;
-import matgo.review.exception.ReviewException;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "post")
+@Table(
+  name = "post",
+  indexes = {
+    @Index(name = "idx_post_region_created_at", columnList = "region_id, created_at, id"),
+    @Index(name = "idx_post_region_like_count", columnList = "region_id, like_count, id")
+  }
+)
 public class Post extends BaseEntity {
 
     @Id
@@ -83,57 +86,4 @@ public class Post extends BaseEntity {
     public void updateContent(String content) {
         this.content = content;
     }
-
-    public boolean hasReaction(Member member) {
-        return postReactions.stream()
-                            .anyMatch(postReaction -> postReaction.getMember().equals(member));
-    }
-
-    public void addPostReaction(PostReaction postReaction) {
-        this.postReactions.add(postReaction);
-    }
-
-    public void removePostReaction(PostReaction postReaction) {
-        this.postReactions.remove(postReaction);
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        validationLikeCount();
-        this.likeCount--;
-    }
-
-    private void validationLikeCount() {
-        if (this.likeCount <= 0) {
-            throw new ReviewException(CANNOT_DECREASE_LIKE_COUNT);
-        }
-    }
-
-    public void increaseDislikeCount() {
-        this.dislikeCount++;
-    }
-
-    public void decreaseDislikeCount() {
-        validationDislikeCount();
-        this.dislikeCount--;
-    }
-
-    private void validationDislikeCount() {
-        if (this.dislikeCount <= 0) {
-            throw new ReviewException(CANNOT_DECREASE_DISLIKE_COUNT);
-        }
-    }
-
-    public void addPostComment(PostComment postComment) {
-        this.postComments.add(postComment);
-        this.commentCount++;
-    }
-
-    public void removePostComment(PostComment postComment) {
-        this.postComments.remove(postComment);
-        this.commentCount--;
-    }
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,13 @@ import matgo.member.domain.entity.Member;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "post_comment")
+@Table(
+  name = "post_comment",
+  indexes = {
+    @Index(name = "idx_post_comment_member_created_at", columnList = "member_id, created_at, id"),
+    @Index(name = "idx_post_comment_post_created_at", columnList = "post_id, created_at, id")
+  }
+)
 public class PostComment extends BaseEntity {
 
     @Id
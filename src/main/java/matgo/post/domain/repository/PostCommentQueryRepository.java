@@ -1,11 +1,13 @@
 package matgo.post.domain.repository;
 
 import com.querydsl.core.types.ConstructorExpression;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import matgo.global.pagination.CursorSlice;
+import matgo.global.pagination.Keyset;
+import matgo.global.pagination.KeysetOrder;
 import matgo.post.domain.entity.QPostComment;
 import matgo.post.dto.response.PostCommentResponse;
 import matgo.post.dto.response.PostCommentSliceResponse;
@@ -20,26 +22,57 @@ public class PostCommentQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
     private final QPostComment qPostComment = QPostComment.postComment;
 
-    public PostCommentSliceResponse findAllByMemberId(Long memberId, Pageable pageable) {
+    // cursor 가 있으면 keyset 으로, 없으면 page offset 으로 조회한다. (한 개를 더 조회해서 hasNext 를 정확히 계산)
+    public PostCommentSliceResponse findAllByMemberId(Long memberId, Pageable pageable, String cursor) {
+        Keyset<PostCommentResponse> keyset = postCommentKeyset(pageable.getSort());
         List<PostCommentResponse> responses = jpaQueryFactory.select(postCommentProjection())
                                                              .from(qPostComment)
-                                                             .where(qPostComment.member.id.eq(memberId))
-                                                             .orderBy(getOrderSpecifier(pageable.getSort()))
-                                                             .offset(pageable.getOffset())
-                                                             .limit(pageable.getPageSize())
+                                                             .where(
+                                                               qPostComment.member.id.eq(memberId),
+                                                               keyset.after(cursor)
+                                                             )
+                                                             .orderBy(keyset.orderSpecifiers())
+                                                             .offset(cursor == null ? pageable.getOffset() : 0)
+                                                             .limit(pageable.getPageSize() + 1)
                                                              .fetch();
 
-        return new PostCommentSliceResponse(responses, responses.size() == pageable.getPageSize());
+        CursorSlice<PostCommentResponse> slice = keyset.toSlice(responses, pageable.getPageSize());
+        return new PostCommentSliceResponse(slice.content(), slice.hasNext(), slice.nextCursor());
     }
 
-    private OrderSpecifier<?>[] getOrderSpecifier(Sort sort) {
-        return sort.stream()
-                   .map(order -> switch (order.getProperty()) {
-                       case "createdAt" ->
-                         order.isAscending() ? qPostComment.createdAt.asc() : qPostComment.createdAt.desc();
-                       default -> qPostComment.createdAt.desc();
-                   })
-                   .toArray(OrderSpecifier[]::new);
+    // 게시글의 댓글을 작성 순서대로 cursor 로 나눠서 조회한다. (idx_post_comment_post_created_at 을 따라 읽는다)
+    public PostCommentSliceResponse findAllByPostId(Long postId, int size, String cursor) {
+        Keyset<PostCommentResponse> keyset = Keyset.of(
+          List.of(new KeysetOrder<>(qPostComment.createdAt.asc(), PostCommentResponse::createdAt)),
+          qPostComment.id, PostCommentResponse::id);
+        List<PostCommentResponse> responses = jpaQueryFactory.select(postCommentProjection())
+                                                             .from(qPostComment)
+                                                             .where(
+                                                               qPostComment.post.id.eq(postId),
+                                                               keyset.after(cursor)
+                                                             )
+                                                             .orderBy(keyset.orderSpecifiers())
+                                                             .limit(size + 1)
+                                                             .fetch();
+
+        CursorSlice<PostCommentResponse> slice = keyset.toSlice(responses, size);
+        return new PostCommentSliceResponse(slice.content(), slice.hasNext(), slice.nextCursor());
+    }
+
+    private Keyset<PostCommentResponse> postCommentKeyset(Sort sort) {
+        List<KeysetOrder<PostCommentResponse>> orders = sort.stream()
+                                                            .map(this::postCommentKeysetOrder)
+                                                            .toList();
+        return Keyset.of(orders, qPostComment.id, PostCommentResponse::id);
+    }
+
+    private KeysetOrder<PostCommentResponse> postCommentKeysetOrder(Sort.Order order) {
+        return switch (order.getProperty()) {
+            case "createdAt" -> new KeysetOrder<>(
+              order.isAscending() ? qPostComment.createdAt.asc() : qPostComment.createdAt.desc(),
+              PostCommentResponse::createdAt);
+            default -> new KeysetOrder<>(qPostComment.createdAt.desc(), PostCommentResponse::createdAt);
+        };
     }
 
     private ConstructorExpression<PostCommentResponse> postCommentProjection() {
@@ -2,7 +2,13 @@ package matgo.post.domain.repository;
 
 import matgo.post.domain.entity.PostComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
 
+    // 이미 삭제된 댓글이면 0 을 반환해서, 같은 댓글을 동시에 삭제해도 댓글 수는 한 번만 줄어든다.
+    @Modifying
+    @Query("UPDATE PostComment c SET c.deletedAt = CURRENT_TIMESTAMP WHERE c.id = :id AND c.deletedAt IS NULL")
+    int softDeleteById(Long id);
 }
@@ -3,18 +3,17 @@ package matgo.post.domain.repository;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.QList;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import matgo.global.pagination.CursorSlice;
+import matgo.global.pagination.Keyset;
+import matgo.global.pagination.KeysetOrder;
 import matgo.member.dto.response.MemberResponse;
 import matgo.post.domain.entity.QPost;
-import matgo.post.domain.entity.QPostComment;
 import matgo.post.domain.entity.QPostImage;
 import matgo.post.dto.response.MyPostSliceResponse;
-import matgo.post.dto.response.PostCommentResponse;
-import matgo.post.dto.response.PostDetailResponse;
 import matgo.post.dto.response.PostListResponse;
 import matgo.post.dto.response.PostResponse;
 import matgo.post.dto.response.PostSliceResponse;
@@ -29,62 +28,25 @@ public class PostQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
     private final QPost qPost = QPost.post;
     private final QPostImage qPostImage = QPostImage.postImage;
-    private final QPostComment qPostComment = QPostComment.postComment;
 
-    public Optional<PostDetailResponse> findPostDetailResponseById(Long regionId, Long postId) {
-        List<PostDetailResponse> postDetailResponses = jpaQueryFactory.select(postDetailProjection())
-                                                                      .from(qPost)
-                                                                      .join(qPost.member)
-                                                                      .leftJoin(qPost.postImages, qPostImage)
-                                                                      .leftJoin(qPost.postComments, qPostComment)
-                                                                      .where(
-                                                                        qPost.id.eq(postId),
-                                                                        qPost.region.id.eq(regionId)
-                                                                      )
-                                                                      .fetch();
-
-        if (postDetailResponses.isEmpty()) {
-            return Optional.empty();
-        }
-
-        return Optional.of(mergePostDetailResponse(postDetailResponses));
-    }
-
-    private PostDetailResponse mergePostDetailResponse(List<PostDetailResponse> postDetailResponses) {
-        List<String> allImages = mergeImages(postDetailResponses);
-        List<PostCommentResponse> allComments = mergeComments(postDetailResponses);
-        PostDetailResponse response = postDetailResponses.get(0);
-
-        return new PostDetailResponse(
-          response.post(),
-          allImages,
-          response.member(),
-          allComments
-        );
+    // 게시글 상세는 게시글(작성자 포함), 이미지, 댓글을 각각 조회해서 자식 row 수만큼 결과가 곱해지지 않게 한다.
+    public Optional<PostListResponse> findPostById(Long regionId, Long postId) {
+        return Optional.ofNullable(jpaQueryFactory.select(postListProjection())
+                                                  .from(qPost)
+                                                  .join(qPost.member)
+                                                  .where(
+                                                    qPost.id.eq(postId),
+                                                    qPost.region.id.eq(regionId)
+                                                  )
+                                                  .fetchOne());
     }
 
-    private List<String> mergeImages(List<PostDetailResponse> responses) {
-        return responses.stream()
-                        .flatMap(response -> response.postImages().stream())
-                        .distinct()
-                        .toList();
-    }
-
-    private List<PostCommentResponse> mergeComments(List<PostDetailResponse> responses) {
-        return responses.stream()
-                        .flatMap(response -> response.postComments().stream())
-                        .distinct()
-                        .toList();
-    }
-
-
-    private ConstructorExpression<PostDetailResponse> postDetailProjection() {
-        return Projections.constructor(PostDetailResponse.class,
-          postProjection(),
-          postImagesProjection(),
-          memberProjection(),
-          Projections.list(postCommentProjection())
-        );
+    public List<String> findImageUrlsByPostId(Long postId) {
+        return jpaQueryFactory.select(qPostImage.imageUrl)
+                              .from(qPostImage)
+                              .where(qPostImage.post.id.eq(postId))
+                              .orderBy(qPostImage.id.asc())
+                              .fetch();
     }
 
     private ConstructorExpression<PostResponse> postProjection() {
@@ -101,19 +63,6 @@ public class PostQueryRepository {
         );
     }
 
-    private ConstructorExpression<PostCommentResponse> postCommentProjection() {
-        return Projections.constructor(PostCommentResponse.class,
-          qPostComment.id,
-          qPostComment.content,
-          qPostComment.createdAt,
-          qPostComment.modifiedAt
-        );
-    }
-
-    private QList postImagesProjection() {
-        return Projections.list(qPostImage.imageUrl);
-    }
-
     private ConstructorExpression<MemberResponse> memberProjection() {
         return Projections.constructor(MemberResponse.class,
           qPost.member.id,
@@ -121,19 +70,44 @@ public class PostQueryRepository {
           qPost.member.nickname);
     }
 
-    public PostSliceResponse findAllPostSliceByRegionId(Long regionId, Pageable pageable) {
+    // cursor 가 있으면 keyset 으로, 없으면 page offset 으로 조회한다. (한 개를 더 조회해서 hasNext 를 정확히 계산)
+    public PostSliceResponse findAllPostSliceByRegionId(Long regionId, Pageable pageable, String cursor) {
+        Keyset<PostListResponse> keyset = postKeyset(pageable.getSort());
         List<PostListResponse> postListResponses = jpaQueryFactory.select(postListProjection())
                                                                   .from(qPost)
                                                                   .join(qPost.member)
-                                                                  .where(qPost.region.id.eq(regionId))
-                                                                  .orderBy(getOrderSpecifier(pageable.getSort()))
-                                                                  .offset(pageable.getOffset())
-                                                                  .limit(pageable.getPageSize())
+                                                                  .where(
+                                                                    qPost.region.id.eq(regionId),
+                                                                    keyset.after(cursor)
+                                                                  )
+                                                                  .orderBy(keyset.orderSpecifiers())
+                                                                  .offset(cursor == null ? pageable.getOffset() : 0)
+                                                                  .limit(pageable.getPageSize() + 1)
                                                                   .fetch();
 
-        return new PostSliceResponse(postListResponses, postListResponses.size() == pageable.getPageSize());
+        CursorSlice<PostListResponse> slice = keyset.toSlice(postListResponses, pageable.getPageSize());
+        return new PostSliceResponse(slice.content(), slice.hasNext(), slice.nextCursor());
     }
 
+    private Keyset<PostListResponse> postKeyset(Sort sort) {
+        List<KeysetOrder<PostListResponse>> orders = sort.stream()
+                                                         .map(this::postKeysetOrder)
+                                                         .toList();
+        return Keyset.of(orders, qPost.id, response -> response.post().id());
+    }
+
+    private KeysetOrder<PostListResponse> postKeysetOrder(Sort.Order order) {
+        return switch (order.getProperty()) {
+            case "likeCount" -> new KeysetOrder<>(order.isAscending() ? qPost.likeCount.asc() : qPost.likeCount.desc(),
+              response -> response.post().likeCount());
+            case "dislikeCount" ->
+              new KeysetOrder<>(order.isAscending() ? qPost.dislikeCount.asc() : qPost.dislikeCount.desc(),
+                response -> response.post().dislikeCount());
+            case "createdAt" -> new KeysetOrder<>(order.isAscending() ? qPost.createdAt.asc() : qPost.createdAt.desc(),
+              response -> response.post().createdAt());
+            default -> new KeysetOrder<>(qPost.createdAt.desc(), response -> response.post().createdAt());
+        };
+    }
 
     private OrderSpecifier<?>[] getOrderSpecifier(Sort sort) {
         return sort.stream()
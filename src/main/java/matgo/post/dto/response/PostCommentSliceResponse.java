@@ -4,7 +4,11 @@ import java.util.List;
 
 public record PostCommentSliceResponse(
   List<PostCommentResponse> comments,
-  boolean hasNext
+  boolean hasNext,
+  String nextCursor
 ) {
 
+    public PostCommentSliceResponse(List<PostCommentResponse> comments, boolean hasNext) {
+        this(comments, hasNext, null);
+    }
 }
@@ -3,11 +3,16 @@ package matgo.post.dto.response;
 import java.util.List;
 import matgo.member.dto.response.MemberResponse;
 
+// 댓글은 첫 페이지만 담고, 다음 페이지는 postComments.nextCursor 로 조회한다.
 public record PostDetailResponse(
   PostResponse post,
   List<String> postImages,
   MemberResponse member,
-  List<PostCommentResponse> postComments
+  PostCommentSliceResponse postComments
 ) {
 
+    public static PostDetailResponse of(PostListResponse post, List<String> postImages,
+      PostCommentSliceResponse postComments) {
+        return new PostDetailResponse(post.post(), postImages, post.member(), postComments);
+    }
 }
@@ -1,11 +1,23 @@
 package matgo.post.dto.response;
 
+import matgo.global.type.Reaction;
 import matgo.member.dto.response.MemberResponse;
 
 public record PostListResponse(
   PostResponse post,
-  MemberResponse member
-
+  MemberResponse member,
+  Reaction myReaction
 ) {
 
+    public PostListResponse(PostResponse post, MemberResponse member) {
+        this(post, member, null);
+    }
+
+    public PostListResponse withPost(PostResponse post) {
+        return new PostListResponse(post, member, myReaction);
+    }
+
+    public PostListResponse withMyReaction(Reaction myReaction) {
+        return new PostListResponse(post, member, myReaction);
+    }
 }
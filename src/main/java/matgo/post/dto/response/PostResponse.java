@@ -1,6 +1,7 @@
 package matgo.post.dto.response;
 
 import java.time.LocalDateTime;
+import matgo.global.reaction.ReactionChange;
 
 public record PostResponse(
   Long id,
@@ -14,4 +15,8 @@ public record PostResponse(
   LocalDateTime modifiedAt
 ) {
 
+    public PostResponse withReactionChange(ReactionChange change) {
+        return new PostResponse(id, title, content, likeCount + change.likeDelta(),
+          dislikeCount + change.dislikeDelta(), commentCount, regionName, createdAt, modifiedAt);
+    }
 }
@@ -4,7 +4,11 @@ import java.util.List;
 
 public record PostSliceResponse(
   List<PostListResponse> posts,
-  boolean hasNext
+  boolean hasNext,
+  String nextCursor
 ) {
 
+    public PostSliceResponse(List<PostListResponse> posts, boolean hasNext) {
+        this(posts, hasNext, null);
+    }
 }
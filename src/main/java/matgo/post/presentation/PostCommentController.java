@@ -2,6 +2,7 @@ package matgo.post.presentation;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import matgo.auth.security.MemberPrincipal;
 import matgo.auth.security.OnlyUser;
 import matgo.post.application.PostCommentService;
 import matgo.post.dto.request.PostCommentCreateRequest;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -41,6 +43,26 @@ public class PostCommentController {
         return ResponseEntity.ok().build();
     }
 
+    // 게시글 댓글 조회 (작성 순서, cursor 페이징)
+    @GetMapping("/{postId}")
+    @OnlyUser
+    public ResponseEntity<PostCommentSliceResponse> getComments(
+      @PathVariable Long postId,
+      @RequestParam(required = false) String cursor,
+      @Valid CustomPageRequest customPageRequest,
+      @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        // 댓글은 작성 순서로 고정이라 정렬 조건은 쓰지 않는다.
+        Pageable pageable = PageRequest.of(
+          customPageRequest.page(),
+          customPageRequest.size()
+        );
+
+        PostCommentSliceResponse response = postCommentService.getComments(principal.getMemberId(),
+          principal.getRegionId(), postId, pageable, cursor);
+        return ResponseEntity.ok(response);
+    }
+
     // 댓글 수정
     @PutMapping("/{commentId}")
     @OnlyUser
@@ -70,6 +92,7 @@ public class PostCommentController {
     @OnlyUser
     public ResponseEntity<PostCommentSliceResponse> getMyWritableComments(
       @AuthenticationPrincipal UserDetails userDetails,
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest
     ) {
         Pageable pageable = PageRequest.of(
@@ -79,7 +102,7 @@ public class PostCommentController {
         );
 
         PostCommentSliceResponse postCommentSliceResponse = postCommentService.getMyComments(
-          Long.parseLong(userDetails.getUsername()), pageable);
+          Long.parseLong(userDetails.getUsername()), pageable, cursor);
         return ResponseEntity.ok(postCommentSliceResponse);
     }
 
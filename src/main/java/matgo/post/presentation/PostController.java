@@ -4,7 +4,9 @@ import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import matgo.auth.security.MemberPrincipal;
 import matgo.auth.security.OnlyUser;
+import matgo.global.reaction.dto.MyReactionResponse;
 import matgo.global.type.Reaction;
 import matgo.post.application.PostService;
 import matgo.post.dto.request.PostCreateRequest;
@@ -79,11 +81,11 @@ public class PostController {
     @OnlyUser
     public ResponseEntity<PostDetailResponse> getPostDetail(
       @PathVariable Long postId,
-      @AuthenticationPrincipal UserDetails userDetails
-
+      @RequestParam(required = false) String commentCursor,
+      @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        PostDetailResponse postDetail = postService.getPostDetailByRegion(
-          Long.parseLong(userDetails.getUsername()), postId);
+        PostDetailResponse postDetail = postService.getPostDetailByRegion(principal.getMemberId(),
+          principal.getRegionId(), postId, commentCursor);
         return ResponseEntity.ok().body(postDetail);
     }
 
@@ -91,8 +93,9 @@ public class PostController {
     @GetMapping
     @OnlyUser
     public ResponseEntity<PostSliceResponse> getPosts(
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest,
-      @AuthenticationPrincipal UserDetails userDetails
+      @AuthenticationPrincipal MemberPrincipal principal
     ) {
         Pageable pageable = PageRequest.of(
           customPageRequest.page(),
@@ -100,7 +103,8 @@ public class PostController {
           customPageRequest.getSort()
         );
 
-        PostSliceResponse response = postService.getPostsByRegion(Long.parseLong(userDetails.getUsername()), pageable);
+        PostSliceResponse response = postService.getPostsByRegion(principal.getMemberId(), principal.getRegionId(),
+          pageable, cursor);
         return ResponseEntity.ok().body(response);
     }
 
@@ -116,6 +120,17 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
+    // 게시글에 남긴 내 좋아요/싫어요 조회
+    @GetMapping("/{postId}/reactions/me")
+    @OnlyUser
+    public ResponseEntity<MyReactionResponse> getMyPostReaction(
+      @AuthenticationPrincipal UserDetails userDetails,
+      @PathVariable Long postId
+    ) {
+        MyReactionResponse response = postService.getMyPostReaction(Long.parseLong(userDetails.getUsername()), postId);
+        return ResponseEntity.ok().body(response);
+    }
+
     // 내가 작성한 게시글 조회
     @GetMapping("/my/writable-posts")
     @OnlyUser
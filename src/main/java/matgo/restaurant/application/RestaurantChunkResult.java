@@ -0,0 +1,19 @@
+package matgo.restaurant.application;
+
+public record RestaurantChunkResult(
+  int inserted,
+  int updated,
+  int unchanged
+) {
+
+    public static final RestaurantChunkResult EMPTY = new RestaurantChunkResult(0, 0, 0);
+
+    public RestaurantChunkResult plus(RestaurantChunkResult other) {
+        return new RestaurantChunkResult(inserted + other.inserted, updated + other.updated,
+          unchanged + other.unchanged);
+    }
+
+    public int rows() {
+        return inserted + updated + unchanged;
+    }
+}
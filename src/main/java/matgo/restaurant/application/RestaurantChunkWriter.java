@@ -0,0 +1,65 @@
+package matgo.restaurant.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.repository.RestaurantBulkRepository;
+import matgo.restaurant.domain.repository.RestaurantContentHash;
+import matgo.restaurant.domain.repository.RestaurantRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class RestaurantChunkWriter {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantBulkRepository restaurantBulkRepository;
+
+    // chunk 단위로 짧은 트랜잭션을 열고, content hash 가 바뀐 식당만 JDBC bulk upsert 로 저장한다.
+    @Transactional
+    public RestaurantChunkResult write(List<Restaurant> restaurants) {
+        if (restaurants.isEmpty()) {
+            return RestaurantChunkResult.EMPTY;
+        }
+
+        Map<String, String> existingHashes = getExistingContentHashes(restaurants);
+        List<Restaurant> changedRestaurants = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        for (Restaurant restaurant : restaurants) {
+            if (!existingHashes.containsKey(restaurant.getExternalId())) {
+                changedRestaurants.add(restaurant);
+                inserted++;
+            } else if (!restaurant.getContentHash().equals(existingHashes.get(restaurant.getExternalId()))) {
+                changedRestaurants.add(restaurant);
+                updated++;
+            }
+        }
+
+        if (!changedRestaurants.isEmpty()) {
+            restaurantBulkRepository.upsertAll(changedRestaurants);
+            restaurantBulkRepository.appendSearchOutbox(changedRestaurants.stream()
+                                                                          .map(Restaurant::getExternalId)
+                                                                          .toList());
+        }
+        return new RestaurantChunkResult(inserted, updated, restaurants.size() - inserted - updated);
+    }
+
+    private Map<String, String> getExistingContentHashes(List<Restaurant> restaurants) {
+        List<String> externalIds = restaurants.stream()
+                                              .map(Restaurant::getExternalId)
+                                              .toList();
+        // 기존 데이터의 content_hash 는 null 일 수 있으므로 빈 문자열로 바꿔서 변경된 것으로 취급한다.
+        return restaurantRepository.findContentHashesByExternalIdIn(externalIds)
+                                   .stream()
+                                   .collect(Collectors.toMap(
+                                     RestaurantContentHash::getExternalId,
+                                     existing -> existing.getContentHash() != null ? existing.getContentHash() : "",
+                                     (first, second) -> first
+                                   ));
+    }
+}
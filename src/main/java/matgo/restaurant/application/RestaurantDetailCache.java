@@ -0,0 +1,137 @@
+package matgo.restaurant.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import matgo.global.cache.SingleFlight;
+import matgo.restaurant.dto.response.RestaurantDetailResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 식당 상세 2단 캐시 (near cache(caffeine) -> redis -> DB)
+ * 무효화는 redis pub/sub 으로 모든 서버(blue/green)의 near cache 에 전파한다.
+ * near cache 에 없는 같은 식당 조회가 동시에 들어오면 redis/DB 조회는 한 번만 한다.
+ */
+@Slf4j
+@Component
+public class RestaurantDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "restaurant:detail:";
+    private static final String INVALIDATE_CHANNEL = "restaurant:detail:invalidate";
+    private static final String ID_DELIMITER = ",";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, RestaurantDetailResponse> nearCache;
+    private final SingleFlight<Long, RestaurantDetailResponse> singleFlight;
+
+    public RestaurantDetailCache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry,
+      @Value("${cache.restaurant-detail.near-ttl-seconds:30}") long nearTtlSeconds,
+      @Value("${cache.restaurant-detail.near-max-size:10000}") long nearMaxSize,
+      @Value("${cache.restaurant-detail.redis-ttl-seconds:600}") long redisTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        // 무효화 메시지를 놓쳐도 near cache 는 짧은 TTL 안에 맞춰진다.
+        this.nearCache = Caffeine.newBuilder()
+                                 .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                                 .maximumSize(nearMaxSize)
+                                 .build();
+        this.singleFlight = new SingleFlight<>("restaurant-detail", meterRegistry);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public RestaurantDetailResponse get(Long restaurantId, Supplier<RestaurantDetailResponse> loader) {
+        RestaurantDetailResponse response = nearCache.getIfPresent(restaurantId);
+        if (response != null) {
+            return response;
+        }
+        return singleFlight.load(restaurantId, () -> load(restaurantId, loader));
+    }
+
+    private RestaurantDetailResponse load(Long restaurantId, Supplier<RestaurantDetailResponse> loader) {
+        RestaurantDetailResponse response = readRedis(restaurantId);
+        if (response == null) {
+            response = loader.get();
+            writeRedis(restaurantId, response);
+        }
+        nearCache.put(restaurantId, response);
+        return response;
+    }
+
+    public void evict(Long restaurantId) {
+        evictAll(List.of(restaurantId));
+    }
+
+    public void evictAll(Collection<Long> restaurantIds) {
+        if (restaurantIds.isEmpty()) {
+            return;
+        }
+
+        nearCache.invalidateAll(restaurantIds);
+        try {
+            redisTemplate.delete(restaurantIds.stream().map(this::key).toList());
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, restaurantIds.stream()
+                                                                          .map(String::valueOf)
+                                                                          .collect(Collectors.joining(ID_DELIMITER)));
+        } catch (RuntimeException e) {
+            log.warn("failed to evict restaurant detail cache - ids: {}", restaurantIds, e);
+        }
+    }
+
+    // 다른 서버(자기 자신 포함)에서 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<Long> restaurantIds = Arrays.stream(body.split(ID_DELIMITER))
+                                        .map(Long::valueOf)
+                                        .collect(Collectors.toSet());
+        nearCache.invalidateAll(restaurantIds);
+    }
+
+    private RestaurantDetailResponse readRedis(Long restaurantId) {
+        try {
+            String json = redisTemplate.opsForValue().get(key(restaurantId));
+            return json != null ? objectMapper.readValue(json, RestaurantDetailResponse.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            // redis 장애나 형식이 바뀐 값은 DB 에서 다시 읽는다.
+            log.warn("failed to read restaurant detail cache - id: {}", restaurantId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long restaurantId, RestaurantDetailResponse response) {
+        try {
+            redisTemplate.opsForValue().set(key(restaurantId), objectMapper.writeValueAsString(response), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("failed to write restaurant detail cache - id: {}", restaurantId, e);
+        }
+    }
+
+    private String key(Long restaurantId) {
+        return KEY_PREFIX + restaurantId;
+    }
+}
@@ -0,0 +1,113 @@
+package matgo.restaurant.application;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.feignclient.JeonjuRestaurantClient;
+import matgo.restaurant.feignclient.dto.RestaurantData;
+import matgo.restaurant.feignclient.dto.RestaurantDataResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전주시 식당 API 수집 파이프라인 (fetch -> convert -> write)
+ */
+@Slf4j
+@Component
+public class RestaurantIngestionPipeline {
+
+    private final JeonjuRestaurantClient jeonjuRestaurantClient;
+    private final RestaurantChunkWriter restaurantChunkWriter;
+    private final Executor restaurantFetchExecutor;
+    private final String key;
+    private final int perPage;
+    private final int maxInFlight;
+
+    public RestaurantIngestionPipeline(
+      JeonjuRestaurantClient jeonjuRestaurantClient,
+      RestaurantChunkWriter restaurantChunkWriter,
+      @Qualifier("restaurantFetchExecutor") Executor restaurantFetchExecutor,
+      @Value("${external.jeonju-restaurant.key}") String key,
+      @Value("${external.jeonju-restaurant.per-page:100}") int perPage,
+      @Value("${external.jeonju-restaurant.max-in-flight:4}") int maxInFlight
+    ) {
+        this.jeonjuRestaurantClient = jeonjuRestaurantClient;
+        this.restaurantChunkWriter = restaurantChunkWriter;
+        this.restaurantFetchExecutor = restaurantFetchExecutor;
+        this.key = key;
+        this.perPage = perPage;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    public RestaurantIngestionResult run() {
+        long startedAt = System.nanoTime();
+
+        // 첫 페이지로 전체 페이지 수를 알아낸다.
+        RestaurantDataResponse firstPage = fetch(1);
+        int totalPages = getTotalPages(firstPage);
+        RestaurantChunkResult chunkResult = restaurantChunkWriter.write(convert(firstPage.data()));
+        int pages = 1;
+
+        // write 가 끝난 만큼만 다음 페이지를 요청해서 메모리에 올라가는 페이지 수를 maxInFlight 로 제한한다.
+        Deque<CompletableFuture<List<Restaurant>>> inFlight = new ArrayDeque<>();
+        int nextPage = 2;
+        try {
+            while (nextPage <= totalPages && inFlight.size() < maxInFlight) {
+                inFlight.add(fetchAndConvertAsync(nextPage++));
+            }
+            while (!inFlight.isEmpty()) {
+                List<Restaurant> restaurants = inFlight.poll().join();
+                chunkResult = chunkResult.plus(restaurantChunkWriter.write(restaurants));
+                pages++;
+                if (nextPage <= totalPages) {
+                    inFlight.add(fetchAndConvertAsync(nextPage++));
+                }
+            }
+        } catch (RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        RestaurantIngestionResult result = new RestaurantIngestionResult(pages, chunkResult.inserted(),
+          chunkResult.updated(), chunkResult.unchanged(), elapsedMillis);
+        log.info("restaurant ingestion finished - pages: {}, rows: {} (inserted: {}, updated: {}, unchanged: {}), "
+            + "elapsed: {}ms, pages/sec: {}, rows/sec: {}",
+          result.pages(), result.rows(), result.inserted(), result.updated(), result.unchanged(),
+          result.elapsedMillis(), String.format("%.2f", result.pagesPerSecond()),
+          String.format("%.2f", result.rowsPerSecond()));
+        return result;
+    }
+
+    private int getTotalPages(RestaurantDataResponse response) {
+        int totalPages = (response.totalCount() + perPage - 1) / perPage;
+        return Math.max(totalPages, 1);
+    }
+
+    private CompletableFuture<List<Restaurant>> fetchAndConvertAsync(int page) {
+        return CompletableFuture.supplyAsync(() -> fetch(page), restaurantFetchExecutor)
+                                .thenApply(response -> convert(response.data()));
+    }
+
+    private RestaurantDataResponse fetch(int page) {
+        return jeonjuRestaurantClient.getRestaurants(page, perPage, key);
+    }
+
+    private List<Restaurant> convert(List<RestaurantData> restaurantDataList) {
+        if (restaurantDataList == null) {
+            return List.of();
+        }
+        return restaurantDataList.stream()
+                                 .map(Restaurant::fromRestaurantData)
+                                 .toList();
+    }
+}
@@ -0,0 +1,29 @@
+package matgo.restaurant.application;
+
+public record RestaurantIngestionResult(
+  int pages,
+  int inserted,
+  int updated,
+  int unchanged,
+  long elapsedMillis
+) {
+
+    public int rows() {
+        return inserted + updated + unchanged;
+    }
+
+    public double pagesPerSecond() {
+        return perSecond(pages);
+    }
+
+    public double rowsPerSecond() {
+        return perSecond(rows());
+    }
+
+    private double perSecond(int count) {
+        if (elapsedMillis <= 0) {
+            return count;
+        }
+        return count * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,97 @@
+package matgo.restaurant.application;
+
+import static matgo.restaurant.domain.type.RestaurantSearchEventType.RATING;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import matgo.restaurant.domain.repository.RestaurantRatingAggregate;
+import matgo.restaurant.domain.repository.RestaurantRatingRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchOutboxRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 식당의 rating_sum, review_count 를 review 테이블 기준으로 다시 맞춘다.
+ * 식당을 id 순서로 batch 단위로 읽고, 틀어진 식당만 batch 마다 짧은 트랜잭션으로 고친다.
+ * rating_sum 이 비어 있는 식당이 있으면 웹 서버가 요청을 받기 전(singleton 초기화 직후)에 한 번 채운다.
+ */
+@Slf4j
+@Component
+public class RestaurantRatingReconciler implements SmartInitializingSingleton {
+
+    private final RestaurantRatingRepository restaurantRatingRepository;
+    private final RestaurantSearchOutboxRepository restaurantSearchOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter reconciledCounter;
+
+    public RestaurantRatingReconciler(
+      RestaurantRatingRepository restaurantRatingRepository,
+      RestaurantSearchOutboxRepository restaurantSearchOutboxRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${restaurant.rating-reconcile.batch-size:500}") int batchSize
+    ) {
+        this.restaurantRatingRepository = restaurantRatingRepository;
+        this.restaurantSearchOutboxRepository = restaurantSearchOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.reconciledCounter = Counter.builder("restaurant.rating.reconciled")
+                                        .description("review 테이블 기준으로 평점 집계를 다시 맞춘 식당 수")
+                                        .register(meterRegistry);
+    }
+
+    // 리뷰 작성/삭제는 rating_sum 에 더하고 빼서 평균을 구하므로, 채워지기 전에 요청을 받으면 평점이 틀어진다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (restaurantRatingRepository.existsMissingRatingSum()) {
+            log.info("backfilling restaurant rating_sum before serving requests");
+            reconcile();
+        }
+    }
+
+    // 매일 새벽 4시 30분에 실행
+    @Scheduled(cron = "${restaurant.rating-reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long lastRestaurantId = 0;
+        int reconciled = 0;
+        List<RestaurantRatingAggregate> aggregates;
+        do {
+            aggregates = restaurantRatingRepository.findAggregatesAfter(lastRestaurantId, batchSize);
+            if (aggregates.isEmpty()) {
+                break;
+            }
+            reconciled += reconcileBatch(aggregates);
+            lastRestaurantId = aggregates.get(aggregates.size() - 1).restaurantId();
+        } while (aggregates.size() == batchSize);
+
+        log.info("reconciled restaurant ratings - restaurants: {}", reconciled);
+    }
+
+    private int reconcileBatch(List<RestaurantRatingAggregate> aggregates) {
+        List<RestaurantRatingAggregate> drifted = aggregates.stream()
+                                                            .filter(RestaurantRatingAggregate::isDrifted)
+                                                            .toList();
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> restaurantIds = transactionTemplate.execute(status -> {
+            List<Long> updatedIds = restaurantRatingRepository.updateAggregates(drifted);
+            // elasticsearch 와 상세 캐시는 outbox relay 가 맞춘다.
+            restaurantSearchOutboxRepository.saveAll(updatedIds.stream()
+                                                               .map(id -> RestaurantSearchOutbox.from(id, RATING))
+                                                               .toList());
+            return updatedIds;
+        });
+        reconciledCounter.increment(restaurantIds.size());
+        return restaurantIds.size();
+    }
+}
@@ -0,0 +1,124 @@
+package matgo.restaurant.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import matgo.restaurant.domain.repository.RestaurantRating;
+import matgo.restaurant.domain.repository.RestaurantRatingUpdate;
+import matgo.restaurant.domain.repository.RestaurantRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 식당 rating, reviewCount 의 elasticsearch 반영을 모아서 bulk 로 보낸다. (식당 id 만 모아둔다)
+ * 값은 flush 할 때 DB 에서 다시 읽으므로, 서버마다 따로 flush 해도 늦게 보낸 쪽이 더 최신 값을 보낸다.
+ * 두 서버가 같은 식당을 동시에 flush 하면 먼저 읽은 값이 나중에 도착할 수 있는데, 이 구간은 DB 조회와 bulk 요청 한 번 사이로 짧고
+ * 다음 rating 변경이나 평점 재계산 job 에서 맞춰진다.
+ */
+@Slf4j
+@Component
+public class RestaurantRatingWriteBehindBuffer {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
+    private final int maxSize;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+
+    public RestaurantRatingWriteBehindBuffer(
+      RestaurantRepository restaurantRepository,
+      RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl,
+      MeterRegistry meterRegistry,
+      @Value("${search.rating-buffer.max-size:500}") int maxSize
+    ) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantSearchRepositoryImpl = restaurantSearchRepositoryImpl;
+        this.maxSize = maxSize;
+        Gauge.builder("restaurant.search.rating.buffer.size", pending, Set::size)
+             .description("elasticsearch 반영을 기다리는 식당 수")
+             .register(meterRegistry);
+        this.flushTimer = Timer.builder("restaurant.search.rating.buffer.flush")
+                               .description("모아둔 rating 을 elasticsearch 에 bulk 로 반영하는 데 걸린 시간")
+                               .register(meterRegistry);
+    }
+
+    public void add(Long restaurantId) {
+        pending.add(restaurantId);
+        if (pending.size() >= maxSize) {
+            flush();
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${search.rating-buffer.flush-interval-ms:2000}")
+    public void flush() {
+        // 동시에 flush 하면 같은 식당의 값 순서가 뒤집힐 수 있으므로 한 번에 하나만 보낸다.
+        flushLock.lock();
+        try {
+            List<Long> restaurantIds = drain();
+            if (restaurantIds.isEmpty()) {
+                return;
+            }
+            flushTimer.record(() -> send(restaurantIds));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("dropped {} restaurant rating updates on shutdown", pending.size());
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> restaurantIds = new ArrayList<>(pending.size());
+        for (Long restaurantId : pending) {
+            if (pending.remove(restaurantId)) {
+                restaurantIds.add(restaurantId);
+            }
+        }
+        return restaurantIds;
+    }
+
+    private void send(List<Long> restaurantIds) {
+        try {
+            // 삭제되었거나 승인이 취소된 식당은 빠진다.
+            List<RestaurantRatingUpdate> updates = restaurantRepository.findApprovedRatingsByIdIn(restaurantIds)
+                                                                       .stream()
+                                                                       .map(this::toUpdate)
+                                                                       .toList();
+            if (!updates.isEmpty()) {
+                restaurantSearchRepositoryImpl.updateRatingAndReviewCount(updates);
+            }
+        } catch (BulkFailureException e) {
+            // 문서가 없는 경우처럼 다시 보내도 실패하는 건은 버리고, 다음 INDEX 이벤트에서 전체 문서로 맞춘다.
+            log.warn("failed to update some restaurant ratings in elasticsearch - {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // 다음 flush 에서 그때의 값을 다시 읽어 보낸다.
+            pending.addAll(restaurantIds);
+            log.error("failed to flush restaurant rating buffer - size: {}", restaurantIds.size(), e);
+        }
+    }
+
+    private RestaurantRatingUpdate toUpdate(RestaurantRating rating) {
+        return new RestaurantRatingUpdate(String.valueOf(rating.getId()), rating.getRating(), rating.getReviewCount());
+    }
+}
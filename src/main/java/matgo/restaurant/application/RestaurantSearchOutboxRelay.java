@@ -0,0 +1,130 @@
+package matgo.restaurant.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import matgo.global.util.TransactionUtil;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.entity.RestaurantSearch;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import matgo.restaurant.domain.repository.RestaurantRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchOutboxRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
+import matgo.restaurant.domain.type.RestaurantSearchEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * restaurant_search_outbox 를 읽어서 elasticsearch 에 bulk 로 반영한다.
+ */
+@Slf4j
+@Component
+public class RestaurantSearchOutboxRelay {
+
+    private final RestaurantSearchOutboxRepository restaurantSearchOutboxRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
+    private final RestaurantRatingWriteBehindBuffer restaurantRatingWriteBehindBuffer;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Timer relayTimer;
+    private final Timer lagTimer;
+    private final Counter indexedCounter;
+
+    public RestaurantSearchOutboxRelay(
+      RestaurantSearchOutboxRepository restaurantSearchOutboxRepository,
+      RestaurantRepository restaurantRepository,
+      RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl,
+      RestaurantRatingWriteBehindBuffer restaurantRatingWriteBehindBuffer,
+      RestaurantDetailCache restaurantDetailCache,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${search.outbox.batch-size:500}") int batchSize
+    ) {
+        this.restaurantSearchOutboxRepository = restaurantSearchOutboxRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantSearchRepositoryImpl = restaurantSearchRepositoryImpl;
+        this.restaurantRatingWriteBehindBuffer = restaurantRatingWriteBehindBuffer;
+        this.restaurantDetailCache = restaurantDetailCache;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.relayTimer = Timer.builder("restaurant.search.outbox.relay")
+                               .description("outbox 한 batch 를 elasticsearch 에 반영하는 데 걸린 시간")
+                               .register(meterRegistry);
+        this.lagTimer = Timer.builder("restaurant.search.outbox.lag")
+                             .description("식당 변경부터 elasticsearch 반영까지 걸린 시간")
+                             .register(meterRegistry);
+        this.indexedCounter = Counter.builder("restaurant.search.outbox.indexed")
+                                     .description("중복 제거 후 elasticsearch 에 반영한 식당 수")
+                                     .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${search.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            int drained;
+            do {
+                drained = relayTimer.record(() -> transactionTemplate.execute(status -> drainBatch()));
+            } while (drained == batchSize);
+        } catch (RuntimeException e) {
+            // outbox row 는 롤백되어 남아있으므로 다음 주기에 다시 시도한다.
+            log.error("failed to relay restaurant search outbox", e);
+        }
+    }
+
+    private int drainBatch() {
+        List<RestaurantSearchOutbox> events = restaurantSearchOutboxRepository.findBatchForRelay(
+          PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 식당에 대한 여러 이벤트는 한 번만 반영하고, INDEX 이벤트가 하나라도 있으면 전체 문서를 색인한다.
+        Map<Long, RestaurantSearchEventType> eventTypes = new LinkedHashMap<>();
+        events.forEach(event -> eventTypes.merge(event.getRestaurantId(), event.getType(),
+          (first, second) -> first == RestaurantSearchEventType.INDEX ? first : second));
+
+        List<RestaurantSearch> restaurantSearches = new ArrayList<>();
+        for (Restaurant restaurant : restaurantRepository.findAllById(eventTypes.keySet())) {
+            if (restaurant.getApprovedAt() == null) {
+                continue;
+            }
+            if (eventTypes.get(restaurant.getId()) == RestaurantSearchEventType.INDEX) {
+                restaurantSearches.add(RestaurantSearch.from(restaurant));
+            } else {
+                // 리뷰로 인한 rating 변경은 buffer 에 모아서 bulk 로 보낸다. (값은 flush 할 때 다시 읽는다)
+                restaurantRatingWriteBehindBuffer.add(restaurant.getId());
+            }
+        }
+        if (!restaurantSearches.isEmpty()) {
+            restaurantSearchRepositoryImpl.bulkInsertOrUpdate(restaurantSearches);
+        }
+        restaurantSearchOutboxRepository.deleteAllInBatch(events);
+        // 외부 API 재수집처럼 서비스를 거치지 않은 변경도 상세 캐시에서 비운다.
+        List<Long> restaurantIds = List.copyOf(eventTypes.keySet());
+        TransactionUtil.afterCommit(() -> restaurantDetailCache.evictAll(restaurantIds));
+
+        recordLag(events);
+        indexedCounter.increment(restaurantSearches.size());
+        log.debug("relayed restaurant search outbox - events: {}, indexed: {}", events.size(),
+          restaurantSearches.size());
+        return events.size();
+    }
+
+    private void recordLag(List<RestaurantSearchOutbox> events) {
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+    }
+}
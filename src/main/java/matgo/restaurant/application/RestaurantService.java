@@ -4,33 +4,32 @@ import static matgo.global.exception.ErrorCode.ELREADY_APPROVED_RESTAURANT;
 import static matgo.global.exception.ErrorCode.ELREADY_EXISTED_RESTAURANT;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_MEMBER;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_RESTAURANT;
+import static matgo.restaurant.domain.type.RestaurantSearchEventType.INDEX;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import matgo.global.pagination.CursorSlice;
+import matgo.global.util.TransactionUtil;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
 import matgo.restaurant.domain.entity.Restaurant;
 import matgo.restaurant.domain.entity.RestaurantSearch;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import matgo.restaurant.domain.repository.RestaurantBulkRepository;
 import matgo.restaurant.domain.repository.RestaurantQueryRepository;
 import matgo.restaurant.domain.repository.RestaurantRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchOutboxRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
+import matgo.restaurant.dto.request.RestaurantLocationRequest;
 import matgo.restaurant.dto.request.RestaurantRequest;
 import matgo.restaurant.dto.response.RestaurantDetailResponse;
 import matgo.restaurant.dto.response.RestaurantSearchResponse;
 import matgo.restaurant.dto.response.RestaurantSliceResponse;
 import matgo.restaurant.dto.response.RestaurantsSliceResponse;
 import matgo.restaurant.exception.RestaurantException;
-import matgo.restaurant.feignclient.JeonjuRestaurantClient;
-import matgo.restaurant.feignclient.dto.RestaurantData;
-import matgo.restaurant.feignclient.dto.RestaurantDataResponse;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -42,129 +41,119 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class RestaurantService {
 
-    private final JeonjuRestaurantClient jeonjuRestaurantClient;
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final RestaurantIngestionPipeline restaurantIngestionPipeline;
     private final MemberRepository memberRepository;
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantBulkRepository restaurantBulkRepository;
     private final RestaurantQueryRepository restaurantQueryRepository;
     private final RestaurantSearchRepository restaurantSearchRepository;
     private final RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
+    private final RestaurantSearchOutboxRepository restaurantSearchOutboxRepository;
+    private final RestaurantDetailCache restaurantDetailCache;
 
-    @Value("${external.jeonju-restaurant.key}")
-    private String key;
-
-    @Transactional
     // 한달에 한번씩 실행
     @Scheduled(cron = "0 0 0 1 * *")
     public void fetchAndSaveRestaurants() {
-        int page = 1;
-        int perPage = 100;
-
-        RestaurantDataResponse response;
-        do {
-            response = fetchRestaurantsFromAPI(page, perPage);
-            List<Restaurant> restaurants = convertToRestaurants(response.data());
-            Map<String, Restaurant> existingRestaurantsMap = getExistingRestaurantsMap(restaurants);
-            List<Restaurant> newRestaurants = getNewRestaurants(restaurants, existingRestaurantsMap);
-            saveRestaurants(newRestaurants);
-            page++;
-        } while (response.page() * response.perPage() < response.totalCount());
+        // 페이지(chunk) 단위로 트랜잭션이 나뉘므로 여기서는 트랜잭션을 열지 않는다.
+        // 변경된 식당은 outbox 를 통해 elasticsearch 에 반영된다.
+        restaurantIngestionPipeline.run();
 
         log.info("fetch and save restaurants success");
-        indexingToES();
     }
 
-    private RestaurantDataResponse fetchRestaurantsFromAPI(int page, int perPage) {
-        return jeonjuRestaurantClient.getRestaurants(page, perPage, key);
-    }
+    @Transactional(readOnly = true)
+    public RestaurantsSliceResponse getRestaurants(Pageable pageable) {
+        Slice<RestaurantSearch> slice = restaurantSearchRepository.findAll(pageable);
+        List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).toList();
 
-    private List<Restaurant> convertToRestaurants(List<RestaurantData> restaurantDataList) {
-        return restaurantDataList.stream()
-                                 .map(Restaurant::fromRestaurantData)
-                                 .toList();
+        return new RestaurantsSliceResponse(restaurants, slice.hasNext());
     }
 
-    private Map<String, Restaurant> getExistingRestaurantsMap(List<Restaurant> restaurants) {
-        List<String> restaurantExternalIds = restaurants.stream()
-                                                        .map(Restaurant::getExternalId)
-                                                        .toList();
-        List<Restaurant> existingRestaurants = restaurantRepository.findByExternalIdIn(restaurantExternalIds);
-        return existingRestaurants.stream()
-                                  .collect(Collectors.toMap(Restaurant::getExternalId, restaurant -> restaurant));
-    }
+    @Transactional(readOnly = true)
+    public RestaurantsSliceResponse getRestaurantsByCursor(String cursor, Pageable pageable) {
+        CursorSlice<RestaurantSearch> slice = restaurantSearchRepositoryImpl.findAllByCursor(pageable.getSort(),
+          pageable.getPageSize(), cursor);
 
-    private List<Restaurant> getNewRestaurants(List<Restaurant> restaurants,
-      Map<String, Restaurant> existingRestaurantsMap) {
-        List<Restaurant> newRestaurants = new ArrayList<>();
-        for (Restaurant restaurant : restaurants) {
-            String externalId = restaurant.getExternalId();
-            Restaurant existingRestaurant = existingRestaurantsMap.get(externalId);
-            if (existingRestaurant != null) {
-                existingRestaurant.update(restaurant);
-            } else {
-                newRestaurants.add(restaurant);
-            }
-        }
-        return newRestaurants;
+        return toSliceResponse(slice);
     }
 
-    private void saveRestaurants(List<Restaurant> newRestaurants) {
-        restaurantRepository.saveAll(newRestaurants);
+    @Transactional(readOnly = true)
+    public RestaurantsSliceResponse getRestaurantsByAddress(String addressKeyword, Pageable pageable) {
+        Slice<RestaurantSearch> slice = restaurantSearchRepository.findByAddressExactMatch(addressKeyword, pageable);
+        List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).toList();
+
+        return new RestaurantsSliceResponse(restaurants, slice.hasNext());
     }
 
-    @Transactional
-    // 한시간에 한번씩 실행
-    @Scheduled(cron = "0 0 * * * *")
-    public void indexingToES() {
-        // 1시간 이내에 수정된 식당만 elasticsearch에 저장
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        List<Restaurant> restaurants = restaurantRepository.findByModifiedAtAfterAndApprovedAtIsNotNull(oneHourAgo);
-        if (restaurants.isEmpty()) {
-            log.info("No restaurants updated in the last hour");
-        } else {
-            List<RestaurantSearch> restaurantSearches = restaurants.stream()
-                                                                   .map(RestaurantSearch::from)
-                                                                   .toList();
-            restaurantSearchRepositoryImpl.bulkInsertOrUpdate(restaurantSearches);
-            log.info("elasticsearch indexing success");
-        }
+    @Transactional(readOnly = true)
+    public RestaurantsSliceResponse getRestaurantsByAddressAndCursor(String addressKeyword, String cursor,
+      Pageable pageable) {
+        CursorSlice<RestaurantSearch> slice = restaurantSearchRepositoryImpl.findByAddressExactMatchByCursor(
+          addressKeyword, pageable.getSort(), pageable.getPageSize(), cursor);
 
+        return toSliceResponse(slice);
     }
 
-
     @Transactional(readOnly = true)
-    public RestaurantsSliceResponse getRestaurants(Pageable pageable) {
-        Slice<RestaurantSearch> slice = restaurantSearchRepository.findAll(pageable);
+    public RestaurantsSliceResponse getRestaurantsByRegion(Long userId, String regionName, Pageable pageable) {
+        Slice<RestaurantSearch> slice = restaurantSearchRepository.findByAddressExactMatch(
+          resolveRegionName(userId, regionName), pageable);
         List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).toList();
 
         return new RestaurantsSliceResponse(restaurants, slice.hasNext());
     }
 
     @Transactional(readOnly = true)
-    public RestaurantsSliceResponse getRestaurantsByAddress(String addressKeyword, Pageable pageable) {
-        Slice<RestaurantSearch> slice = restaurantSearchRepository.findByAddressExactMatch(addressKeyword, pageable);
-        List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).toList();
+    public RestaurantsSliceResponse getRestaurantsByRegionAndCursor(Long userId, String regionName, String cursor,
+      Pageable pageable) {
+        CursorSlice<RestaurantSearch> slice = restaurantSearchRepositoryImpl.findByAddressExactMatchByCursor(
+          resolveRegionName(userId, regionName), pageable.getSort(), pageable.getPageSize(), cursor);
 
-        return new RestaurantsSliceResponse(restaurants, slice.hasNext());
+        return toSliceResponse(slice);
     }
 
-    @Transactional(readOnly = true)
-    public RestaurantsSliceResponse getRestaurantsByRegion(Long userId, Pageable pageable) {
+    // 지역은 토큰 claim 으로 받고, claim 이 없는 이전 토큰일 때만 회원을 조회한다.
+    private String resolveRegionName(Long userId, String regionName) {
+        if (regionName != null) {
+            return regionName;
+        }
         Member member = memberRepository.findById(userId).orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+        return member.getRegion().getName();
+    }
 
-        Slice<RestaurantSearch> slice = restaurantSearchRepository.findByAddressExactMatch(member.getRegion().getName(),
-          pageable);
+    private RestaurantsSliceResponse toSliceResponse(CursorSlice<RestaurantSearch> slice) {
+        List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).content();
+
+        return new RestaurantsSliceResponse(restaurants, slice.hasNext(), slice.nextCursor());
+    }
+
+    @Transactional(readOnly = true)
+    public RestaurantsSliceResponse getRestaurantsByLocation(RestaurantLocationRequest locationRequest,
+      Pageable pageable) {
+        Slice<RestaurantSearch> slice = restaurantSearchRepositoryImpl.findByLocation(
+          locationRequest.lat(),
+          locationRequest.lon(),
+          locationRequest.radius(),
+          locationRequest.isBoosted(),
+          pageable
+        );
         List<RestaurantSliceResponse> restaurants = slice.map(RestaurantSliceResponse::from).toList();
 
         return new RestaurantsSliceResponse(restaurants, slice.hasNext());
     }
 
-    @Transactional(readOnly = true)
+    // 캐시에 있으면 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 조회한다.
     public RestaurantDetailResponse getRestaurantDetail(Long restaurantId) {
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                                                    .filter(restaurants -> restaurants.getApprovedAt() != null)
-                                                    .orElseThrow(() -> new RestaurantException(NOT_FOUND_RESTAURANT));
+        return restaurantDetailCache.get(restaurantId, () -> {
+            Restaurant restaurant = restaurantRepository.findById(restaurantId)
+                                                        .filter(restaurants -> restaurants.getApprovedAt() != null)
+                                                        .orElseThrow(
+                                                          () -> new RestaurantException(NOT_FOUND_RESTAURANT));
 
-        return RestaurantDetailResponse.from(restaurant);
+            return RestaurantDetailResponse.from(restaurant);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -200,26 +189,31 @@ public class RestaurantService {
 
         restaurant.approve();
 
-        restaurantSearchRepository.save(RestaurantSearch.from(restaurant));
+        restaurantSearchOutboxRepository.save(RestaurantSearchOutbox.from(restaurant.getId(), INDEX));
+        TransactionUtil.afterCommit(() -> restaurantDetailCache.evict(restaurantId));
     }
 
     // 관리자용
-    @Transactional
     public void fetchRestaurants() {
-        int page = 1;
-        int perPage = 100;
+        fetchAndSaveRestaurants();
+    }
 
-        RestaurantDataResponse response;
+    // 관리자용: elasticsearch index 를 새 mapping 으로 다시 만든 뒤 호출한다.
+    // 승인된 식당 전체를 id 순서로 batch 마다 outbox 에 INDEX 로 남기고, 실제 색인은 outbox relay 가 나눠서 한다.
+    public int reindexRestaurants() {
+        long lastRestaurantId = 0;
+        int enqueued = 0;
+        List<Long> restaurantIds;
         do {
-            response = fetchRestaurantsFromAPI(page, perPage);
-            List<Restaurant> restaurants = convertToRestaurants(response.data());
-            Map<String, Restaurant> existingRestaurantsMap = getExistingRestaurantsMap(restaurants);
-            List<Restaurant> newRestaurants = getNewRestaurants(restaurants, existingRestaurantsMap);
-            saveRestaurants(newRestaurants);
-            page++;
-        } while (response.page() * response.perPage() < response.totalCount());
+            restaurantIds = restaurantBulkRepository.appendIndexOutboxAfter(lastRestaurantId, REINDEX_BATCH_SIZE);
+            if (restaurantIds.isEmpty()) {
+                break;
+            }
+            enqueued += restaurantIds.size();
+            lastRestaurantId = restaurantIds.get(restaurantIds.size() - 1);
+        } while (restaurantIds.size() == REINDEX_BATCH_SIZE);
 
-        log.info("fetch and save restaurants success");
-        indexingToES();
+        log.info("enqueued restaurants for reindex - restaurants: {}", enqueued);
+        return enqueued;
     }
 }
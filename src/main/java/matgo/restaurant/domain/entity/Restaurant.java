@@ -21,6 +21,7 @@ import matgo.global.entity.BaseEntity;
 import matgo.restaurant.dto.request.RestaurantRequest;
 import matgo.restaurant.feignclient.dto.RestaurantData;
 import matgo.review.domain.entity.Review;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -65,6 +66,10 @@ public class Restaurant extends BaseEntity {
     @Column(name = "description", nullable = false, columnDefinition = "TEXT")
     private String description;
 
+    // 외부 API 원본 데이터의 지문 (변경되지 않은 식당은 재수집 시 건너뛴다)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;
 
@@ -74,6 +79,11 @@ public class Restaurant extends BaseEntity {
     @Column(name = "review_count", nullable = false)
     private Integer reviewCount;
 
+    // 평점 합계 (rating 은 rating_sum / review_count 를 반올림해서 저장한 표시용 값)
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
     @OneToMany(mappedBy = "restaurant")
     private List<Review> reviews = new ArrayList<>();
 
@@ -88,6 +98,7 @@ public class Restaurant extends BaseEntity {
                          .lat(data.lat())
                          .lon(data.lon())
                          .description(data.description())
+                         .contentHash(data.contentHash())
                          .approvedAt(LocalDateTime.now())
                          .rating(0.0)
                          .reviewCount(0)
@@ -110,6 +121,8 @@ public class Restaurant extends BaseEntity {
     public static Restaurant fromRestaurantRequest(RestaurantRequest request) {
         // TODO: externalId 생성 정책
         String externalId = UUID.randomUUID().toString();
+        RestaurantData data = new RestaurantData(externalId, request.name(), request.roadAddress(), request.address(),
+          request.phoneNumber(), request.lat(), request.lon(), request.description());
         return Restaurant.builder()
                          .externalId(externalId)
                          .name(request.name())
@@ -119,48 +132,14 @@ public class Restaurant extends BaseEntity {
                          .lat(request.lat())
                          .lon(request.lon())
                          .description(request.description())
+                         .contentHash(data.contentHash())
                          .rating(0.0)
                          .reviewCount(0)
                          .build();
     }
 
-    public void update(Restaurant restaurant) {
-        this.name = restaurant.name;
-        this.address = restaurant.address;
-        this.phoneNumber = restaurant.phoneNumber;
-        this.lat = restaurant.lat;
-        this.lon = restaurant.lon;
-        this.description = restaurant.description;
-    }
-
     public void approve() {
         this.approvedAt = LocalDateTime.now();
     }
 
-    public void addReview(Review review) {
-        this.reviews.add(review);
-        this.reviewCount++;
-        updateRating(review, false);
-    }
-
-    public void removeReview(Review review) {
-        this.reviews.remove(review);
-        this.reviewCount--;
-        updateRating(review, true);
-    }
-
-    private void updateRating(Review review, boolean isRemoved) {
-        if (isRemoved) {
-            if (this.reviewCount == 0) {
-                this.rating = 0.0;
-            } else {
-                this.rating = ((this.rating * (this.reviewCount + 1)) - review.getRating()) / this.reviewCount;
-            }
-        } else {
-            this.rating = ((this.rating * (this.reviewCount - 1)) + review.getRating()) / this.reviewCount;
-        }
-
-        this.rating = Math.round(this.rating * 100) / 100.0;
-    }
-
 }
@@ -1,19 +1,19 @@
 package matgo.restaurant.domain.entity;
 
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.GeoPointField;
 import org.springframework.data.elasticsearch.annotations.Mapping;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 @Document(indexName = "restaurant")
 @Mapping(mappingPath = "elastic/restaurant-search-mapping.json")
 @Setting(settingPath = "elastic/restaurant-search-setting.json")
 @Getter
-@AllArgsConstructor
 public class RestaurantSearch {
 
     @Id
@@ -36,6 +36,24 @@ public class RestaurantSearch {
     private Double rating;
     @Field(type = FieldType.Integer, name = "reviewCount")
     private Integer reviewCount;
+    // 반경 검색, 거리순 정렬용 (lat, lon 으로 만든다)
+    @GeoPointField
+    private GeoPoint location;
+
+    public RestaurantSearch(String id, String name, String roadAddress, String address, String phoneNumber,
+      Double lat, Double lon, String description, Double rating, Integer reviewCount) {
+        this.id = id;
+        this.name = name;
+        this.roadAddress = roadAddress;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.lat = lat;
+        this.lon = lon;
+        this.description = description;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.location = lat != null && lon != null ? new GeoPoint(lat, lon) : null;
+    }
 
     public static RestaurantSearch from(Restaurant restaurant) {
         return new RestaurantSearch(
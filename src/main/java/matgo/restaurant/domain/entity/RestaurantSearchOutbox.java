@@ -0,0 +1,51 @@
+package matgo.restaurant.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import matgo.restaurant.domain.type.RestaurantSearchEventType;
+
+/**
+ * 식당 elasticsearch 동기화 outbox (식당 변경과 같은 트랜잭션에서 저장)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "restaurant_search_outbox")
+public class RestaurantSearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private RestaurantSearchEventType type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static RestaurantSearchOutbox from(Long restaurantId, RestaurantSearchEventType type) {
+        return RestaurantSearchOutbox.builder()
+                                     .restaurantId(restaurantId)
+                                     .type(type)
+                                     .createdAt(LocalDateTime.now())
+                                     .build();
+    }
+}
@@ -0,0 +1,140 @@
+package matgo.restaurant.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import matgo.restaurant.domain.entity.Restaurant;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 외부 API 수집용 식당 bulk upsert (uk_restaurant_external_id 기준)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestaurantBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+      INSERT INTO restaurant (external_id, name, road_address, address, phone_number, lat, lon, description,
+                              content_hash, approved_at, rating, review_count, created_at, modified_at)
+      VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 새 row 는 row alias(new) 로 참조한다. (VALUES() 함수는 MySQL 8.0.20 부터 deprecated)
+    // MySQL 은 SET 절을 왼쪽부터 평가하므로 modified_at 을 content_hash 가 바뀌기 전에 먼저 비교한다.
+    // 내용이 같은 row 는 어떤 컬럼도 바뀌지 않기 때문에 실제로 write 되지 않는다.
+    private static final String ON_DUPLICATE_KEY_UPDATE_SQL = """
+       AS new
+      ON DUPLICATE KEY UPDATE
+        modified_at = IF(content_hash <=> new.content_hash, modified_at, new.modified_at),
+        name = new.name,
+        road_address = new.road_address,
+        address = new.address,
+        phone_number = new.phone_number,
+        lat = new.lat,
+        lon = new.lon,
+        description = new.description,
+        content_hash = new.content_hash""";
+
+    private static final String INSERT_SEARCH_OUTBOX_SQL = """
+      INSERT INTO restaurant_search_outbox (restaurant_id, type, created_at)
+      SELECT id, 'INDEX', ? FROM restaurant
+      WHERE approved_at IS NOT NULL AND deleted_at IS NULL AND external_id IN (%s)""";
+
+    private static final String SELECT_APPROVED_IDS_SQL = """
+      SELECT id FROM restaurant
+      WHERE approved_at IS NOT NULL AND deleted_at IS NULL AND id > ?
+      ORDER BY id
+      LIMIT ?""";
+
+    private static final String INSERT_INDEX_OUTBOX_SQL = """
+      INSERT INTO restaurant_search_outbox (restaurant_id, type, created_at)
+      VALUES (?, 'INDEX', ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<Restaurant> restaurants) {
+        for (int from = 0; from < restaurants.size(); from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, restaurants.size());
+            upsert(restaurants.subList(from, to));
+        }
+    }
+
+    // upsert 와 같은 트랜잭션에서 호출해서 elasticsearch 동기화 대상을 outbox 에 남긴다.
+    public void appendSearchOutbox(List<String> externalIds) {
+        for (int from = 0; from < externalIds.size(); from += BATCH_SIZE) {
+            List<String> batch = externalIds.subList(from, Math.min(from + BATCH_SIZE, externalIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+
+            List<Object> params = new ArrayList<>(batch.size() + 1);
+            params.add(Timestamp.valueOf(LocalDateTime.now()));
+            params.addAll(batch);
+            jdbcTemplate.update(INSERT_SEARCH_OUTBOX_SQL.formatted(placeholders), params.toArray());
+        }
+    }
+
+    // 전체 재색인용. lastRestaurantId 다음부터 승인된 식당을 id 순서로 limit 개 outbox 에 남기고, 남긴 id 를 돌려준다.
+    @Transactional
+    public List<Long> appendIndexOutboxAfter(long lastRestaurantId, int limit) {
+        List<Long> restaurantIds = jdbcTemplate.queryForList(SELECT_APPROVED_IDS_SQL, Long.class, lastRestaurantId,
+          limit);
+        if (restaurantIds.isEmpty()) {
+            return restaurantIds;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_INDEX_OUTBOX_SQL, restaurantIds.stream()
+                                                                       .map(id -> new Object[]{id, now})
+                                                                       .toList());
+        return restaurantIds;
+    }
+
+    private void upsert(List<Restaurant> restaurants) {
+        if (restaurants.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> params = new ArrayList<>(restaurants.size() * 14);
+        for (Restaurant restaurant : restaurants) {
+            params.add(restaurant.getExternalId());
+            params.add(restaurant.getName());
+            params.add(restaurant.getRoadAddress());
+            params.add(restaurant.getAddress());
+            params.add(restaurant.getPhoneNumber());
+            params.add(restaurant.getLat());
+            params.add(restaurant.getLon());
+            params.add(restaurant.getDescription());
+            params.add(restaurant.getContentHash());
+            params.add(toTimestamp(restaurant.getApprovedAt()));
+            params.add(restaurant.getRating());
+            params.add(restaurant.getReviewCount());
+            params.add(now);
+            params.add(now);
+        }
+
+        jdbcTemplate.update(buildSql(restaurants.size()), params.toArray());
+    }
+
+    private String buildSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+        }
+        return sql.append(ON_DUPLICATE_KEY_UPDATE_SQL).toString();
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
@@ -0,0 +1,8 @@
+package matgo.restaurant.domain.repository;
+
+public interface RestaurantContentHash {
+
+    String getExternalId();
+
+    String getContentHash();
+}
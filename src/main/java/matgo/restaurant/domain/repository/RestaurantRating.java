@@ -0,0 +1,10 @@
+package matgo.restaurant.domain.repository;
+
+public interface RestaurantRating {
+
+    Long getId();
+
+    Double getRating();
+
+    Integer getReviewCount();
+}
@@ -0,0 +1,24 @@
+package matgo.restaurant.domain.repository;
+
+/**
+ * 식당에 저장된 평점 집계와 review 테이블에서 다시 계산한 집계
+ */
+public record RestaurantRatingAggregate(
+  Long restaurantId,
+  long ratingSum,
+  int reviewCount,
+  long actualRatingSum,
+  int actualReviewCount
+) {
+
+    public boolean isDrifted() {
+        return ratingSum != actualRatingSum || reviewCount != actualReviewCount;
+    }
+
+    public double actualRating() {
+        if (actualReviewCount == 0) {
+            return 0.0;
+        }
+        return Math.round(actualRatingSum * 100.0 / actualReviewCount) / 100.0;
+    }
+}
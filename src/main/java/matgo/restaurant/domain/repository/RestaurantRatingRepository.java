@@ -0,0 +1,69 @@
+package matgo.restaurant.domain.repository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 식당 평점 집계(rating_sum, review_count) 재계산용
+ */
+@Repository
+@RequiredArgsConstructor
+public class RestaurantRatingRepository {
+
+    // 식당을 id 순서로 끊어 읽고, 그 식당들의 리뷰만 (restaurant_id, ...) 인덱스로 집계한다.
+    private static final String FIND_AGGREGATES_SQL = """
+      SELECT r.id, r.rating_sum, r.review_count,
+             COALESCE(SUM(v.rating), 0) AS actual_rating_sum, COUNT(v.id) AS actual_review_count
+      FROM (SELECT id, rating_sum, review_count FROM restaurant
+            WHERE id > ? AND deleted_at IS NULL ORDER BY id LIMIT ?) r
+      LEFT JOIN review v ON v.restaurant_id = r.id AND v.deleted_at IS NULL
+      GROUP BY r.id, r.rating_sum, r.review_count
+      ORDER BY r.id""";
+
+    // 읽은 뒤에 리뷰가 추가/삭제된 식당은 건너뛰고 다음 실행에서 다시 맞춘다.
+    private static final String UPDATE_AGGREGATE_SQL = """
+      UPDATE restaurant SET rating = ?, rating_sum = ?, review_count = ?
+      WHERE id = ? AND rating_sum = ? AND review_count = ?""";
+
+    // rating_sum 컬럼이 생기기 전에 평점이 쌓인 식당은 rating 은 있는데 rating_sum 이 기본값(0) 으로 남아 있다.
+    private static final String EXISTS_MISSING_RATING_SUM_SQL = """
+      SELECT EXISTS (SELECT 1 FROM restaurant WHERE rating_sum = 0 AND rating > 0 AND deleted_at IS NULL)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean existsMissingRatingSum() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_MISSING_RATING_SUM_SQL, Boolean.class));
+    }
+
+    public List<RestaurantRatingAggregate> findAggregatesAfter(long lastRestaurantId, int batchSize) {
+        return jdbcTemplate.query(FIND_AGGREGATES_SQL, (rs, rowNum) -> new RestaurantRatingAggregate(
+          rs.getLong("id"),
+          rs.getLong("rating_sum"),
+          rs.getInt("review_count"),
+          rs.getLong("actual_rating_sum"),
+          rs.getInt("actual_review_count")
+        ), lastRestaurantId, batchSize);
+    }
+
+    // 실제로 바뀐 식당 id 만 돌려준다. (드라이버가 건수를 알려주지 않으면 바뀐 것으로 본다)
+    public List<Long> updateAggregates(List<RestaurantRatingAggregate> aggregates) {
+        List<Object[]> params = aggregates.stream()
+                                          .map(aggregate -> new Object[]{
+                                            aggregate.actualRating(),
+                                            aggregate.actualRatingSum(),
+                                            aggregate.actualReviewCount(),
+                                            aggregate.restaurantId(),
+                                            aggregate.ratingSum(),
+                                            aggregate.reviewCount()
+                                          })
+                                          .toList();
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_AGGREGATE_SQL, params);
+        return IntStream.range(0, updated.length)
+                        .filter(i -> updated[i] != 0)
+                        .mapToObj(i -> aggregates.get(i).restaurantId())
+                        .toList();
+    }
+}
@@ -0,0 +1,9 @@
+package matgo.restaurant.domain.repository;
+
+public record RestaurantRatingUpdate(
+  String id,
+  double rating,
+  int reviewCount
+) {
+
+}
@@ -1,24 +1,41 @@
 package matgo.restaurant.domain.repository;
 
 import jakarta.persistence.LockModeType;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import matgo.restaurant.domain.entity.Restaurant;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
-    List<Restaurant> findByModifiedAtAfterAndApprovedAtIsNotNull(LocalDateTime modifiedAt);
+    @Query("SELECT r.externalId AS externalId, r.contentHash AS contentHash "
+      + "FROM Restaurant r WHERE r.externalId IN :externalIds")
+    List<RestaurantContentHash> findContentHashesByExternalIdIn(List<String> externalIds);
 
-    @Query("SELECT r FROM Restaurant r WHERE r.externalId IN :externalIds")
-    List<Restaurant> findByExternalIdIn(List<String> externalIds);
+    @Query("SELECT r.id AS id, r.rating AS rating, r.reviewCount AS reviewCount "
+      + "FROM Restaurant r WHERE r.id IN :ids AND r.approvedAt IS NOT NULL")
+    List<RestaurantRating> findApprovedRatingsByIdIn(Collection<Long> ids);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Restaurant r WHERE r.id = :id")
     Optional<Restaurant> findByIdWithPessimisticWriteLock(Long id);
+
+    // rating 을 먼저 계산해야 MySQL 에서도 변경 전 rating_sum, review_count 를 기준으로 계산된다.
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.rating = ROUND((r.ratingSum + :rating) * 1.0 / (r.reviewCount + 1), 2), "
+      + "r.ratingSum = r.ratingSum + :rating, r.reviewCount = r.reviewCount + 1 WHERE r.id = :id")
+    int addReviewRating(Long id, int rating);
+
+    @Modifying
+    @Query("UPDATE Restaurant r SET r.rating = CASE WHEN r.reviewCount <= 1 THEN 0.0 "
+      + "ELSE ROUND((r.ratingSum - :rating) * 1.0 / (r.reviewCount - 1), 2) END, "
+      + "r.ratingSum = r.ratingSum - :rating, r.reviewCount = r.reviewCount - 1 "
+      + "WHERE r.id = :id AND r.reviewCount > 0")
+    int removeReviewRating(Long id, int rating);
 }
@@ -0,0 +1,22 @@
+package matgo.restaurant.domain.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RestaurantSearchOutboxRepository extends JpaRepository<RestaurantSearchOutbox, Long> {
+
+    // 여러 인스턴스의 relay 가 같은 row 를 가져가지 않도록 SKIP LOCKED(-2) 로 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM RestaurantSearchOutbox o ORDER BY o.id")
+    List<RestaurantSearchOutbox> findBatchForRelay(Pageable pageable);
+}
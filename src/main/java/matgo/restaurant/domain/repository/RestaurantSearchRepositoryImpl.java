@@ -1,20 +1,131 @@
 package matgo.restaurant.domain.repository;
 
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
+import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldValueFactorModifier;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonData;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import matgo.global.pagination.CursorCodec;
+import matgo.global.pagination.CursorSlice;
 import matgo.restaurant.domain.entity.RestaurantSearch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitSupport;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.StringUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class RestaurantSearchRepositoryImpl {
 
+    private static final String LOCATION_FIELD = "location";
+    private static final String ID_FIELD = "id";
+
     private final ElasticsearchOperations operations;
 
+    public CursorSlice<RestaurantSearch> findAllByCursor(Sort sort, int size, String cursor) {
+        return searchAfter(Query.of(q -> q.matchAll(m -> m)), sort, size, cursor);
+    }
+
+    public CursorSlice<RestaurantSearch> findByAddressExactMatchByCursor(String addressKeyword, Sort sort, int size,
+      String cursor) {
+        Query query = Query.of(q -> q.matchPhrase(m -> m.field("address").query(addressKeyword)));
+        return searchAfter(query, sort, size, cursor);
+    }
+
+    /**
+     * search_after 로 cursor 다음 페이지를 조회한다. (id 를 마지막 정렬 조건으로 붙여서 순서를 고정)
+     * size + 1 개를 조회해서 다음 페이지가 있는지 확인한다.
+     */
+    private CursorSlice<RestaurantSearch> searchAfter(Query query, Sort sort, int size, String cursor) {
+        Sort cursorSort = sort.getOrderFor(ID_FIELD) != null ? sort : sort.and(Sort.by(Sort.Direction.ASC, ID_FIELD));
+        NativeQueryBuilder builder = NativeQuery.builder()
+                                                .withQuery(query)
+                                                .withSort(cursorSort)
+                                                .withPageable(PageRequest.of(0, size + 1));
+        String sortSignature = cursorSort.stream()
+                                         .map(order -> order.getProperty() + ":" + order.getDirection())
+                                         .collect(Collectors.joining(","));
+        if (StringUtils.hasText(cursor)) {
+            builder.withSearchAfter(CursorCodec.decode(cursor, sortSignature, cursorSort.toList().size()));
+        }
+
+        List<SearchHit<RestaurantSearch>> hits = operations.search(builder.build(), RestaurantSearch.class)
+                                                           .getSearchHits();
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<RestaurantSearch>> content = hasNext ? hits.subList(0, size) : hits;
+        String nextCursor = hasNext
+          ? CursorCodec.encode(sortSignature, content.get(content.size() - 1).getSortValues())
+          : null;
+
+        return new CursorSlice<>(content.stream().map(SearchHit::getContent).toList(), hasNext, nextCursor);
+    }
+
+    /**
+     * 좌표에서 radius(m) 안의 식당을 거리순으로 조회한다.
+     * boost 면 거리 감쇠 점수에 rating, reviewCount 를 곱한 점수순으로 정렬하고, 같은 점수는 거리순으로 정렬한다.
+     */
+    public Page<RestaurantSearch> findByLocation(double lat, double lon, int radius, boolean boost,
+      Pageable pageable) {
+        GeoLocation origin = GeoLocation.of(g -> g.latlon(l -> l.lat(lat).lon(lon)));
+        Query withinRadius = Query.of(q -> q.geoDistance(g -> g.field(LOCATION_FIELD)
+                                                                .location(origin)
+                                                                .distance(radius + "m")));
+
+        List<SortOptions> sorts = new ArrayList<>();
+        Query query;
+        if (boost) {
+            query = Query.of(q -> q.functionScore(fs -> fs
+              .query(withinRadius)
+              .functions(f -> f.gauss(d -> d.field(LOCATION_FIELD)
+                                            .placement(p -> p.origin(JsonData.of(lat + "," + lon))
+                                                             .scale(JsonData.of(Math.max(radius / 2, 1) + "m")))))
+              .functions(f -> f.fieldValueFactor(v -> v.field("rating")
+                                                       .modifier(FieldValueFactorModifier.Log2p)
+                                                       .missing(0.0)))
+              .functions(f -> f.fieldValueFactor(v -> v.field("reviewCount")
+                                                       .modifier(FieldValueFactorModifier.Log2p)
+                                                       .missing(0.0)))
+              .scoreMode(FunctionScoreMode.Multiply)
+              .boostMode(FunctionBoostMode.Replace)));
+            sorts.add(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))));
+        } else {
+            // 점수를 쓰지 않으므로 filter context 로 조회한다.
+            query = Query.of(q -> q.bool(b -> b.filter(withinRadius)));
+        }
+        sorts.add(SortOptions.of(s -> s.geoDistance(g -> g.field(LOCATION_FIELD)
+                                                          .location(origin)
+                                                          .order(SortOrder.Asc)
+                                                          .unit(DistanceUnit.Meters))));
+
+        NativeQuery nativeQuery = NativeQuery.builder()
+                                             .withQuery(query)
+                                             .withSort(sorts)
+                                             .withPageable(pageable)
+                                             .build();
+        SearchHits<RestaurantSearch> searchHits = operations.search(nativeQuery, RestaurantSearch.class);
+        return SearchHitSupport.searchPageFor(searchHits, pageable).map(SearchHit::getContent);
+    }
+
     public void bulkInsertOrUpdate(List<RestaurantSearch> restaurantSearches) {
         List<UpdateQuery> updates = restaurantSearches.stream().map(restaurantSearch ->
           UpdateQuery.builder(Objects.requireNonNull(restaurantSearch.getId()))
@@ -25,12 +136,16 @@ public class RestaurantSearchRepositoryImpl {
         operations.bulkUpdate(updates, operations.getIndexCoordinatesFor(RestaurantSearch.class));
     }
 
-    public void updateRatingAndReviewCount(String id, double rating, int reviewCount) {
-        Map<String, Object> updates = Map.of("rating", rating, "reviewCount", reviewCount);
-        UpdateQuery updateQuery = UpdateQuery.builder(id)
-                                             .withDocument(operations.getElasticsearchConverter().mapObject(updates))
-                                             .build();
+    // rating, reviewCount 만 부분 갱신한다.
+    public void updateRatingAndReviewCount(Collection<RestaurantRatingUpdate> ratingUpdates) {
+        List<UpdateQuery> updates = ratingUpdates.stream().map(ratingUpdate ->
+          UpdateQuery.builder(ratingUpdate.id())
+                     .withDocument(operations.getElasticsearchConverter().mapObject(Map.of(
+                       "rating", ratingUpdate.rating(),
+                       "reviewCount", ratingUpdate.reviewCount()
+                     )))
+                     .build()).toList();
 
-        operations.update(updateQuery, operations.getIndexCoordinatesFor(RestaurantSearch.class));
+        operations.bulkUpdate(updates, operations.getIndexCoordinatesFor(RestaurantSearch.class));
     }
 }
@@ -0,0 +1,8 @@
+package matgo.restaurant.domain.type;
+
+public enum RestaurantSearchEventType {
+    // 식당 문서 전체를 다시 색인
+    INDEX,
+    // rating, reviewCount 만 부분 갱신
+    RATING
+}
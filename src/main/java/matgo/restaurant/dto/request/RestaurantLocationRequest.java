@@ -0,0 +1,41 @@
+package matgo.restaurant.dto.request;
+
+import static matgo.global.util.DtoValidator.EMPTY_MESSAGE;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record RestaurantLocationRequest(
+  @NotNull(message = EMPTY_MESSAGE)
+  @DecimalMin("-90.0")
+  @DecimalMax("90.0")
+  Double lat,
+
+  @NotNull(message = EMPTY_MESSAGE)
+  @DecimalMin("-180.0")
+  @DecimalMax("180.0")
+  Double lon,
+
+  // 검색 반경 (m)
+  @NotNull(message = EMPTY_MESSAGE)
+  @Min(1)
+  @Max(20000)
+  Integer radius,
+
+  // true 면 거리와 함께 rating, reviewCount 를 점수에 반영한다. (없으면 false)
+  Boolean boost
+) {
+
+    public RestaurantLocationRequest {
+        if (boost == null) {
+            boost = false;
+        }
+    }
+
+    public boolean isBoosted() {
+        return boost;
+    }
+}
@@ -4,7 +4,12 @@ import java.util.List;
 
 public record RestaurantsSliceResponse(
   List<RestaurantSliceResponse> restaurants,
-  boolean hasNext
+  boolean hasNext,
+  // cursor 로 조회한 경우에만 내려준다. (다음 페이지가 없으면 null)
+  String nextCursor
 ) {
 
+    public RestaurantsSliceResponse(List<RestaurantSliceResponse> restaurants, boolean hasNext) {
+        this(restaurants, hasNext, null);
+    }
 }
@@ -1,6 +1,13 @@
 package matgo.restaurant.feignclient.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public record RestaurantData(
   @JsonProperty("식당(ID)") String externalId,
@@ -13,4 +20,18 @@ public record RestaurantData(
   @JsonProperty("음식점소개내용") String description
 ) {
 
+    private static final String FIELD_SEPARATOR = "\u001F";
+
+    // 재수집 시 변경 여부 판단용 지문 (SHA-256, hex)
+    public String contentHash() {
+        String content = Stream.of(name, roadAddress, address, phoneNumber, lat, lon, description)
+                               .map(field -> Objects.toString(field, ""))
+                               .collect(Collectors.joining(FIELD_SEPARATOR));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -2,10 +2,12 @@ package matgo.restaurant.presentation;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import matgo.auth.security.MemberPrincipal;
 import matgo.auth.security.OnlyAdmin;
 import matgo.auth.security.OnlyUser;
 import matgo.restaurant.application.RestaurantService;
 import matgo.restaurant.dto.request.CustomPageRequest;
+import matgo.restaurant.dto.request.RestaurantLocationRequest;
 import matgo.restaurant.dto.request.RestaurantRequest;
 import matgo.restaurant.dto.response.RestaurantDetailResponse;
 import matgo.restaurant.dto.response.RestaurantSearchResponse;
@@ -14,7 +16,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -31,8 +32,10 @@ public class RestaurantController {
 
     private final RestaurantService restaurantService;
 
+    // cursor 가 있으면(빈 값이면 첫 페이지) search_after 로 조회하고, 없으면 기존처럼 page 로 조회한다.
     @GetMapping
     public RestaurantsSliceResponse getRestaurants(
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest
     ) {
         Pageable pageable = PageRequest.of(
@@ -40,12 +43,16 @@ public class RestaurantController {
           customPageRequest.size(),
           customPageRequest.getSort()
         );
+        if (cursor != null) {
+            return restaurantService.getRestaurantsByCursor(cursor, pageable);
+        }
         return restaurantService.getRestaurants(pageable);
     }
 
     @GetMapping("/address")
     public RestaurantsSliceResponse getRestaurantsByAddress(
       @RequestParam String keyword,
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest
     ) {
         Pageable pageable = PageRequest.of(
@@ -53,13 +60,17 @@ public class RestaurantController {
           customPageRequest.size(),
           customPageRequest.getSort()
         );
+        if (cursor != null) {
+            return restaurantService.getRestaurantsByAddressAndCursor(keyword, cursor, pageable);
+        }
         return restaurantService.getRestaurantsByAddress(keyword, pageable);
     }
 
     @GetMapping("/nearby")
     @OnlyUser
     public RestaurantsSliceResponse getRestaurantsByRegion(
-      @AuthenticationPrincipal UserDetails userDetails,
+      @AuthenticationPrincipal MemberPrincipal principal,
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest
     ) {
         Pageable pageable = PageRequest.of(
@@ -67,7 +78,24 @@ public class RestaurantController {
           customPageRequest.size(),
           customPageRequest.getSort()
         );
-        return restaurantService.getRestaurantsByRegion(Long.parseLong(userDetails.getUsername()), pageable);
+        if (cursor != null) {
+            return restaurantService.getRestaurantsByRegionAndCursor(principal.getMemberId(),
+              principal.getRegionName(), cursor, pageable);
+        }
+        return restaurantService.getRestaurantsByRegion(principal.getMemberId(), principal.getRegionName(), pageable);
+    }
+
+    @GetMapping("/location")
+    public RestaurantsSliceResponse getRestaurantsByLocation(
+      @Valid RestaurantLocationRequest restaurantLocationRequest,
+      @Valid CustomPageRequest customPageRequest
+    ) {
+        // 거리순(또는 점수순)으로 정렬하므로 sortBy 는 사용하지 않는다.
+        Pageable pageable = PageRequest.of(
+          customPageRequest.page(),
+          customPageRequest.size()
+        );
+        return restaurantService.getRestaurantsByLocation(restaurantLocationRequest, pageable);
     }
 
     @GetMapping("/detail/{restaurantId}")
@@ -108,4 +136,10 @@ public class RestaurantController {
     public void fetchRestaurants() {
         restaurantService.fetchRestaurants();
     }
+
+    @PostMapping("/admin/reindex")
+    @OnlyAdmin
+    public void reindexRestaurants() {
+        restaurantService.reindexRestaurants();
+    }
 }
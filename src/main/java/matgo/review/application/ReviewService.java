@@ -4,26 +4,35 @@ import static matgo.global.exception.ErrorCode.ALREADY_WRITTEN_REVIEW;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_MEMBER;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_RESTAURANT;
 import static matgo.global.exception.ErrorCode.NOT_FOUND_REVIEW;
-import static matgo.global.exception.ErrorCode.NOT_FOUND_REVIEW_REACTION;
 import static matgo.global.exception.ErrorCode.NOT_OWNER_REVIEW;
+import static matgo.restaurant.domain.type.RestaurantSearchEventType.RATING;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import matgo.global.filesystem.s3.S3Service;
 import matgo.global.lock.annotation.DistributedLock;
+import matgo.global.reaction.ReactionChange;
+import matgo.global.reaction.ReactionCommandRepository;
+import matgo.global.reaction.ReactionCountBuffer;
+import matgo.global.reaction.ReactionQueryRepository;
+import matgo.global.reaction.ReactionTarget;
+import matgo.global.reaction.dto.MyReactionResponse;
 import matgo.global.type.Reaction;
 import matgo.global.type.S3Directory;
+import matgo.global.util.TransactionUtil;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.exception.MemberException;
+import matgo.restaurant.application.RestaurantDetailCache;
 import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
 import matgo.restaurant.domain.repository.RestaurantRepository;
-import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
+import matgo.restaurant.domain.repository.RestaurantSearchOutboxRepository;
 import matgo.restaurant.exception.RestaurantException;
 import matgo.review.domain.entity.Review;
-import matgo.review.domain.entity.ReviewReaction;
 import matgo.review.domain.repository.ReviewQueryRepository;
-import matgo.review.domain.repository.ReviewReactionRepository;
 import matgo.review.domain.repository.ReviewRepository;
 import matgo.review.dto.request.ReviewCreateRequest;
 import matgo.review.dto.response.MyReviewSliceResponse;
@@ -45,14 +54,19 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewQueryRepository reviewQueryRepository;
     private final RestaurantRepository restaurantRepository;
-    private final RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
+    private final RestaurantSearchOutboxRepository restaurantSearchOutboxRepository;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final ReviewSliceCache reviewSliceCache;
     private final MemberRepository memberRepository;
-    private final ReviewReactionRepository reviewReactionRepository;
+    private final ReactionCommandRepository reactionCommandRepository;
+    private final ReactionQueryRepository reactionQueryRepository;
+    private final ReactionCountBuffer reactionCountBuffer;
 
     private final S3Service s3Service;
 
 
-    @DistributedLock(key = "'createReview-' + #restaurantId")
+    // 평점은 DB 에서 원자적으로 더하므로 식당 단위 락 없이, 같은 회원의 중복 작성만 막는다.
+    @DistributedLock(key = "'createReview-' + #memberId + '-' + #restaurantId")
     public ReviewCreateResponse createReview(Long memberId, Long restaurantId,
       ReviewCreateRequest reviewCreateRequest, MultipartFile reviewImage) {
         Restaurant restaurant = restaurantRepository.findById(restaurantId)
@@ -64,21 +78,22 @@ public class ReviewService {
 
         String imageUrl = s3Service.uploadAndGetImageURL(reviewImage, S3Directory.REVIEW);
         Review review = ReviewCreateRequest.toEntity(member, restaurant, reviewCreateRequest, imageUrl);
-        restaurant.addReview(review);
         member.addReview(review);
         reviewRepository.save(review);
+        restaurantRepository.addReviewRating(restaurantId, review.getRating());
 
-        updateRestaurantInfoInES(restaurantId, restaurant);
+        publishRestaurantChange(restaurantId);
 
         return new ReviewCreateResponse(review.getId());
     }
 
-    private void updateRestaurantInfoInES(Long restaurantId, Restaurant restaurant) {
-        // ES에 실시간 동기화
-        restaurantSearchRepositoryImpl.updateRatingAndReviewCount(String.valueOf(restaurantId), restaurant.getRating(),
-          restaurant.getReviewCount());
-        log.info("Updated restaurant info in ES. restaurantId: {}, rating: {}, reviewCount: {}", restaurantId,
-          restaurant.getRating(), restaurant.getReviewCount());
+    private void publishRestaurantChange(Long restaurantId) {
+        // ES 반영은 outbox relay 가 비동기로 처리하고, 상세 캐시는 커밋 후 바로 비운다.
+        restaurantSearchOutboxRepository.save(RestaurantSearchOutbox.from(restaurantId, RATING));
+        TransactionUtil.afterCommit(() -> {
+            restaurantDetailCache.evict(restaurantId);
+            reviewSliceCache.evict(restaurantId);
+        });
     }
 
     private void checkCanWriteReview(Long memberId, Restaurant restaurant) {
@@ -87,90 +102,109 @@ public class ReviewService {
         }
     }
 
+    // 로그인했으면 내 반응을 (리뷰 id, 회원 id) 로 한 건만 조회해서 채운다.
     @Transactional(readOnly = true)
-    public ReviewDetailResponse getReviewDetail(Long reviewId) {
-        return reviewQueryRepository.findReviewResponseByIdWithMemberAndRestaurant(reviewId)
-                                    .orElseThrow(() -> new ReviewException(NOT_FOUND_REVIEW));
+    public ReviewDetailResponse getReviewDetail(Long memberId, Long reviewId) {
+        ReviewDetailResponse response = reviewQueryRepository.findReviewResponseByIdWithMemberAndRestaurant(reviewId)
+                                                             .orElseThrow(
+                                                               () -> new ReviewException(NOT_FOUND_REVIEW));
+        Map<Long, ReactionChange> pending = reactionCountBuffer.pending(ReactionTarget.REVIEW, List.of(reviewId));
+        response = withPendingReaction(response, pending);
+        if (memberId == null) {
+            return response;
+        }
+        return response.withMyReaction(reactionQueryRepository.findReaction(ReactionTarget.REVIEW, reviewId, memberId)
+                                                              .orElse(null));
     }
 
-    @Transactional(readOnly = true)
-    public ReviewSliceResponse getReviews(Long restaurantId, Pageable pageable) {
-        return reviewQueryRepository.findAllReviewSliceByRestaurantId(restaurantId, pageable);
+    // 동시에 들어온 같은 조회를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 조회한다.
+    // 캐시된 목록은 회원과 상관없이 공유하고, 내 반응은 로그인한 경우에만 조회 후에 채운다.
+    public ReviewSliceResponse getReviews(Long memberId, Long restaurantId, Pageable pageable, String cursor) {
+        ReviewSliceResponse response = withPendingReaction(reviewSliceCache.get(restaurantId, pageable, cursor,
+          () -> reviewQueryRepository.findAllReviewSliceByRestaurantId(restaurantId, pageable, cursor)));
+        return memberId != null ? withMyReaction(response, memberId) : response;
     }
 
-    @DistributedLock(key = "'addReviewReaction-' + #reviewId")
-    public void addReviewReaction(Long memberId, Long reviewId, Reaction reactionType) {
-        Review review = reviewRepository.findById(reviewId)
-                                        .orElseThrow(() -> new ReviewException(NOT_FOUND_REVIEW));
-        Member member = memberRepository.findById(memberId)
-                                        .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
+    private ReviewSliceResponse withMyReaction(ReviewSliceResponse response, Long memberId) {
+        Map<Long, Reaction> reactions = reactionQueryRepository.findReactions(ReactionTarget.REVIEW,
+          response.reviews().stream().map(review -> review.review().id()).toList(), memberId);
+        if (reactions.isEmpty()) {
+            return response;
+        }
+        return new ReviewSliceResponse(response.reviews()
+                                               .stream()
+                                               .map(review -> review.withMyReaction(
+                                                 reactions.get(review.review().id())))
+                                               .toList(), response.hasNext(), response.nextCursor());
+    }
 
-        // 이미 반응이 있다면 기존 반응 삭제 후 새로운 반응으로 업데이트
-        if (review.hasReaction(member)) {
-            updateReaction(review, member, reactionType);
-        } else {
-            addReaction(review, member, reactionType);
+    // 아직 DB 에 반영되지 않은 좋아요/싫어요 수를 더해서 방금 누른 반응이 바로 보이게 한다.
+    private ReviewSliceResponse withPendingReaction(ReviewSliceResponse response) {
+        Map<Long, ReactionChange> pending = reactionCountBuffer.pending(ReactionTarget.REVIEW,
+          response.reviews().stream().map(review -> review.review().id()).toList());
+        if (pending.isEmpty()) {
+            return response;
         }
+        return new ReviewSliceResponse(response.reviews()
+                                               .stream()
+                                               .map(review -> withPendingReaction(review, pending))
+                                               .toList(), response.hasNext(), response.nextCursor());
+    }
 
-        reviewRepository.save(review);
+    private ReviewDetailResponse withPendingReaction(ReviewDetailResponse response,
+      Map<Long, ReactionChange> pending) {
+        ReactionChange change = pending.get(response.review().id());
+        if (change == null) {
+            return response;
+        }
+        return response.withReview(response.review().withReactionChange(change));
     }
 
-    private void updateReaction(Review review, Member member, Reaction reaction) {
-        ReviewReaction reviewReaction = review.getReviewReactions()
-                                              .stream()
-                                              .filter(r -> r.getMember().getId().equals(member.getId()))
-                                              .findFirst()
-                                              .orElseThrow(
-                                                () -> new ReviewException(NOT_FOUND_REVIEW_REACTION));
-
-        // 기존 반응과 같다면 반응 삭제 (아무것도 안누른 상태로 변경)
-        if (reviewReaction.getReaction() == reaction) {
-            reviewReactionRepository.delete(reviewReaction);
-            review.removeReviewReaction(reviewReaction);
-            if (reaction == Reaction.LIKE) {
-                review.decreaseLikeCount();
-            } else {
-                review.decreaseDislikeCount();
-            }
-        } else { // 기존 반응과 다르다면 반응 업데이트
-            reviewReaction.changeReaction(reaction);
-            if (reaction == Reaction.LIKE) {
-                review.increaseLikeCount();
-                review.decreaseDislikeCount();
-            } else {
-                review.increaseDislikeCount();
-                review.decreaseLikeCount();
-            }
+    // 반응 row 와 좋아요/싫어요 수를 조건부 SQL 로 바꿔서 락 없이 동시에 처리한다.
+    @Transactional
+    public void addReviewReaction(Long memberId, Long reviewId, Reaction reactionType) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new ReviewException(NOT_FOUND_REVIEW);
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberException(NOT_FOUND_MEMBER);
         }
+
+        ReactionChange change = reactionCommandRepository.toggle(ReactionTarget.REVIEW, reviewId, memberId,
+          reactionType);
+        // 좋아요/싫어요 수는 buffer 에 모아서 주기적으로 반영한다.
+        TransactionUtil.afterCommit(() -> reactionCountBuffer.add(ReactionTarget.REVIEW, reviewId, change));
     }
 
-    private void addReaction(Review review, Member member, Reaction reaction) {
-        ReviewReaction reviewReaction = ReviewReaction.from(review, member, reaction);
-        review.addReviewReaction(reviewReaction);
-        reviewReactionRepository.save(reviewReaction);
-        if (reaction == Reaction.LIKE) {
-            review.increaseLikeCount();
-        } else {
-            review.increaseDislikeCount();
+    @Transactional(readOnly = true)
+    public MyReactionResponse getMyReviewReaction(Long memberId, Long reviewId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new ReviewException(NOT_FOUND_REVIEW);
         }
+
+        return new MyReactionResponse(reactionQueryRepository.findReaction(ReactionTarget.REVIEW, reviewId, memberId)
+                                                             .orElse(null));
     }
 
     @DistributedLock(key = "'deleteReview-' + #reviewId")
     public void deleteReview(Long memberId, Long restaurantId, Long reviewId) {
-        Review review = reviewQueryRepository.findByIdWithReactions(reviewId, restaurantId)
+        Review review = reviewQueryRepository.findByIdAndRestaurantId(reviewId, restaurantId)
                                              .orElseThrow(() -> new ReviewException(NOT_FOUND_REVIEW));
         Member member = memberRepository.findById(memberId)
                                         .orElseThrow(() -> new MemberException(NOT_FOUND_MEMBER));
         checkCanDeleteReview(member, review);
 
-        Restaurant restaurant = restaurantRepository.findById(restaurantId)
-                                                    .orElseThrow(() -> new RestaurantException(NOT_FOUND_RESTAURANT));
+        if (!restaurantRepository.existsById(restaurantId)) {
+            throw new RestaurantException(NOT_FOUND_RESTAURANT);
+        }
 
-        restaurant.removeReview(review);
         member.removeReview(review);
         reviewRepository.delete(review);
+        // 반응을 엔티티로 읽어서 하나씩 지우지 않고 한 번에 soft delete 한다.
+        reactionCommandRepository.deleteAll(ReactionTarget.REVIEW, reviewId);
+        restaurantRepository.removeReviewRating(restaurantId, review.getRating());
 
-        updateRestaurantInfoInES(restaurantId, restaurant);
+        publishRestaurantChange(restaurantId);
     }
 
     private void checkCanDeleteReview(Member member, Review review) {
@@ -0,0 +1,66 @@
+package matgo.review.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import matgo.global.cache.HotKeyCache;
+import matgo.global.cache.SingleFlight;
+import matgo.review.dto.response.ReviewSliceResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 식당별 리뷰 목록 조회 캐시
+ * 동시에 들어온 같은 조회는 하나로 합치고, 많이 조회되는 목록만 짧게 메모리에 고정한다.
+ */
+@Component
+public class ReviewSliceCache {
+
+    private final SingleFlight<ReviewSliceKey, ReviewSliceResponse> singleFlight;
+    private final HotKeyCache<ReviewSliceKey, ReviewSliceResponse> hotKeyCache;
+
+    public ReviewSliceCache(
+      MeterRegistry meterRegistry,
+      @Value("${cache.review-slice.hot-key-size:100}") int hotKeySize,
+      @Value("${cache.review-slice.hot-key-min-hits:20}") long hotKeyMinHits,
+      @Value("${cache.review-slice.hot-key-ttl-ms:3000}") long hotKeyTtlMs
+    ) {
+        this.singleFlight = new SingleFlight<>("review-slice", meterRegistry);
+        this.hotKeyCache = new HotKeyCache<>("review-slice", hotKeySize, hotKeyMinHits,
+          Duration.ofMillis(hotKeyTtlMs), meterRegistry);
+    }
+
+    public ReviewSliceResponse get(Long restaurantId, Pageable pageable, String cursor,
+      Supplier<ReviewSliceResponse> loader) {
+        ReviewSliceKey key = ReviewSliceKey.of(restaurantId, pageable, cursor);
+        return hotKeyCache.get(key, () -> singleFlight.load(key, loader));
+    }
+
+    // 리뷰가 추가/삭제되면 해당 식당의 고정된 목록을 비운다. (좋아요 수 변경은 TTL 동안 늦게 반영된다)
+    public void evict(Long restaurantId) {
+        hotKeyCache.invalidateIf(key -> key.restaurantId().equals(restaurantId));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.review-slice.hot-key-window-ms:10000}")
+    public void rotateHotKeys() {
+        hotKeyCache.rotate();
+    }
+
+    record ReviewSliceKey(
+      Long restaurantId,
+      int page,
+      int size,
+      String sort,
+      String cursor
+    ) {
+
+        static ReviewSliceKey of(Long restaurantId, Pageable pageable, String cursor) {
+            // cursor 가 있으면 page 는 쓰이지 않으므로 key 에서 뺀다.
+            int page = cursor == null ? pageable.getPageNumber() : 0;
+            return new ReviewSliceKey(restaurantId, page, pageable.getPageSize(), pageable.getSort().toString(),
+              cursor);
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package matgo.review.domain.entity;
 
-import static matgo.global.exception.ErrorCode.CANNOT_DECREASE_DISLIKE_COUNT;
-import static matgo.global.exception.ErrorCode.CANNOT_DECREASE_LIKE_COUNT;
-
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +7,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -25,14 +22,20 @@ import lombok.NoArgsConstructor;
 import matgo.global.entity.BaseEntity;
 import matgo.member.domain.entity.Member;
 import matgo.restaurant.domain.entity.Restaurant;
-import matgo.review.exception.ReviewException;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "review")
+@Table(
+  name = "review",
+  indexes = {
+    @Index(name = "idx_review_restaurant_created_at", columnList = "restaurant_id, created_at, id"),
+    @Index(name = "idx_review_restaurant_rating", columnList = "restaurant_id, rating, id"),
+    @Index(name = "idx_review_restaurant_like_count", columnList = "restaurant_id, like_count, id")
+  }
+)
 public class Review extends BaseEntity {
 
     @Id
@@ -57,7 +60,8 @@ public class Review extends BaseEntity {
     @Column(name = "dislike_count", nullable = false, columnDefinition = "int default 0")
     private int dislikeCount;
 
-    @OneToMany(mappedBy = "review", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    // 리뷰를 지울 때 반응은 ReactionCommandRepository 로 한 번에 soft delete 한다.
+    @OneToMany(mappedBy = "review")
     private List<ReviewReaction> reviewReactions = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -67,47 +71,4 @@ public class Review extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurant_id", foreignKey = @ForeignKey(name = "fk_review_restaurant"), nullable = false)
     private Restaurant restaurant;
-
-    public boolean hasReaction(Member member) {
-        return reviewReactions.stream()
-                              .anyMatch(reviewReaction -> reviewReaction.getMember().equals(member));
-    }
-
-    public void addReviewReaction(ReviewReaction reviewReaction) {
-        this.reviewReactions.add(reviewReaction);
-    }
-
-    public void removeReviewReaction(ReviewReaction reviewReaction) {
-        this.reviewReactions.remove(reviewReaction);
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        validationLikeCount();
-        this.likeCount--;
-    }
-
-    private void validationLikeCount() {
-        if (this.likeCount <= 0) {
-            throw new ReviewException(CANNOT_DECREASE_LIKE_COUNT);
-        }
-    }
-
-    public void increaseDislikeCount() {
-        this.dislikeCount++;
-    }
-
-    public void decreaseDislikeCount() {
-        validationDislikeCount();
-        this.dislikeCount--;
-    }
-
-    private void validationDislikeCount() {
-        if (this.dislikeCount <= 0) {
-            throw new ReviewException(CANNOT_DECREASE_DISLIKE_COUNT);
-        }
-    }
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +27,12 @@ import matgo.member.domain.entity.Member;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "review_reaction")
+@Table(
+  name = "review_reaction",
+  uniqueConstraints = {
+    @UniqueConstraint(name = "uk_review_reaction_review_member", columnNames = {"review_id", "member_id"})
+  }
+)
 public class ReviewReaction extends BaseEntity {
 
     @Id
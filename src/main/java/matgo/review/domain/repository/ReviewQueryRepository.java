@@ -7,6 +7,9 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import matgo.global.pagination.CursorSlice;
+import matgo.global.pagination.Keyset;
+import matgo.global.pagination.KeysetOrder;
 import matgo.member.dto.response.MemberResponse;
 import matgo.restaurant.dto.response.RestaurantResponse;
 import matgo.review.domain.entity.QReview;
@@ -38,18 +41,48 @@ public class ReviewQueryRepository {
         return Optional.ofNullable(response);
     }
 
-    public ReviewSliceResponse findAllReviewSliceByRestaurantId(Long restaurantId, Pageable pageable) {
+    // cursor 가 있으면 keyset 으로, 없으면 page offset 으로 조회한다. (한 개를 더 조회해서 hasNext 를 정확히 계산)
+    public ReviewSliceResponse findAllReviewSliceByRestaurantId(Long restaurantId, Pageable pageable, String cursor) {
+        Keyset<ReviewDetailResponse> keyset = reviewKeyset(pageable.getSort());
         List<ReviewDetailResponse> responses = jpaQueryFactory.select(reviewDetailProjection())
                                                               .from(qReview)
                                                               .join(qReview.member)
                                                               .join(qReview.restaurant)
-                                                              .where(qReview.restaurant.id.eq(restaurantId))
-                                                              .orderBy(getOrderSpecifier(pageable.getSort()))
-                                                              .offset(pageable.getOffset())
-                                                              .limit(pageable.getPageSize())
+                                                              .where(
+                                                                qReview.restaurant.id.eq(restaurantId),
+                                                                keyset.after(cursor)
+                                                              )
+                                                              .orderBy(keyset.orderSpecifiers())
+                                                              .offset(cursor == null ? pageable.getOffset() : 0)
+                                                              .limit(pageable.getPageSize() + 1)
                                                               .fetch();
 
-        return new ReviewSliceResponse(responses, responses.size() == pageable.getPageSize());
+        CursorSlice<ReviewDetailResponse> slice = keyset.toSlice(responses, pageable.getPageSize());
+        return new ReviewSliceResponse(slice.content(), slice.hasNext(), slice.nextCursor());
+    }
+
+    private Keyset<ReviewDetailResponse> reviewKeyset(Sort sort) {
+        List<KeysetOrder<ReviewDetailResponse>> orders = sort.stream()
+                                                             .map(this::reviewKeysetOrder)
+                                                             .toList();
+        return Keyset.of(orders, qReview.id, response -> response.review().id());
+    }
+
+    private KeysetOrder<ReviewDetailResponse> reviewKeysetOrder(Sort.Order order) {
+        return switch (order.getProperty()) {
+            case "rating" -> new KeysetOrder<>(order.isAscending() ? qReview.rating.asc() : qReview.rating.desc(),
+              response -> response.review().rating());
+            case "likeCount" ->
+              new KeysetOrder<>(order.isAscending() ? qReview.likeCount.asc() : qReview.likeCount.desc(),
+                response -> response.review().likeCount());
+            case "dislikeCount" ->
+              new KeysetOrder<>(order.isAscending() ? qReview.dislikeCount.asc() : qReview.dislikeCount.desc(),
+                response -> response.review().dislikeCount());
+            case "createdAt" ->
+              new KeysetOrder<>(order.isAscending() ? qReview.createdAt.asc() : qReview.createdAt.desc(),
+                response -> response.review().createdAt());
+            default -> new KeysetOrder<>(qReview.createdAt.desc(), response -> response.review().createdAt());
+        };
     }
 
     private OrderSpecifier<?>[] getOrderSpecifier(Sort sort) {
@@ -110,9 +143,8 @@ public class ReviewQueryRepository {
                               .fetchFirst() != null;
     }
 
-    public Optional<Review> findByIdWithReactions(Long reviewId, Long restaurantId) {
+    public Optional<Review> findByIdAndRestaurantId(Long reviewId, Long restaurantId) {
         return Optional.ofNullable(jpaQueryFactory.selectFrom(qReview)
-                                                  .leftJoin(qReview.reviewReactions).fetchJoin()
                                                   .where(qReview.id.eq(reviewId),
                                                     qReview.restaurant.id.eq(restaurantId))
                                                   .fetchOne());
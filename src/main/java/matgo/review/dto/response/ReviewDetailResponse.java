@@ -1,12 +1,25 @@
 package matgo.review.dto.response;
 
+import matgo.global.type.Reaction;
 import matgo.member.dto.response.MemberResponse;
 import matgo.restaurant.dto.response.RestaurantResponse;
 
 public record ReviewDetailResponse(
   ReviewResponse review,
   MemberResponse member,
-  RestaurantResponse restaurant
+  RestaurantResponse restaurant,
+  Reaction myReaction
 ) {
 
+    public ReviewDetailResponse(ReviewResponse review, MemberResponse member, RestaurantResponse restaurant) {
+        this(review, member, restaurant, null);
+    }
+
+    public ReviewDetailResponse withReview(ReviewResponse review) {
+        return new ReviewDetailResponse(review, member, restaurant, myReaction);
+    }
+
+    public ReviewDetailResponse withMyReaction(Reaction myReaction) {
+        return new ReviewDetailResponse(review, member, restaurant, myReaction);
+    }
 }
@@ -1,6 +1,7 @@
 package matgo.review.dto.response;
 
 import java.time.LocalDateTime;
+import matgo.global.reaction.ReactionChange;
 
 public record ReviewResponse(
   Long id,
@@ -14,4 +15,8 @@ public record ReviewResponse(
 
 ) {
 
+    public ReviewResponse withReactionChange(ReactionChange change) {
+        return new ReviewResponse(id, content, rating, imageUrl, revisit, likeCount + change.likeDelta(),
+          dislikeCount + change.dislikeDelta(), createdAt);
+    }
 }
\ No newline at end of file
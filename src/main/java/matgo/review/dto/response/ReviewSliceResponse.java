@@ -4,7 +4,11 @@ import java.util.List;
 
 public record ReviewSliceResponse(
   List<ReviewDetailResponse> reviews,
-  boolean hasNext
+  boolean hasNext,
+  String nextCursor
 ) {
 
+    public ReviewSliceResponse(List<ReviewDetailResponse> reviews, boolean hasNext) {
+        this(reviews, hasNext, null);
+    }
 }
@@ -5,6 +5,7 @@ import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import matgo.auth.security.BothAdminAndUser;
 import matgo.auth.security.OnlyUser;
+import matgo.global.reaction.dto.MyReactionResponse;
 import matgo.global.type.Reaction;
 import matgo.restaurant.dto.request.CustomPageRequest;
 import matgo.review.application.ReviewService;
@@ -61,10 +62,24 @@ public class ReviewController {
         return ResponseEntity.noContent().build();
     }
 
+    // 리뷰에 남긴 내 좋아요/싫어요 조회
+    @GetMapping("/{reviewId}/reactions/me")
+    @OnlyUser
+    public ResponseEntity<MyReactionResponse> getMyReviewReaction(
+      @AuthenticationPrincipal UserDetails userDetails,
+      @PathVariable Long reviewId
+    ) {
+        MyReactionResponse response = reviewService.getMyReviewReaction(Long.parseLong(userDetails.getUsername()),
+          reviewId);
+        return ResponseEntity.ok().body(response);
+    }
+
     // 리뷰 조회 (페이징)
     @GetMapping("/{restaurantId}")
     public ResponseEntity<ReviewSliceResponse> getReviews(
+      @AuthenticationPrincipal UserDetails userDetails,
       @PathVariable Long restaurantId,
+      @RequestParam(required = false) String cursor,
       @Valid CustomPageRequest customPageRequest
     ) {
         Pageable pageable = PageRequest.of(
@@ -73,16 +88,21 @@ public class ReviewController {
           customPageRequest.getSort()
         );
 
-        ReviewSliceResponse response = reviewService.getReviews(restaurantId, pageable);
+        // 로그인하지 않아도 조회할 수 있고, 로그인했으면 리뷰마다 내 반응을 함께 내려준다.
+        Long memberId = userDetails != null ? Long.parseLong(userDetails.getUsername()) : null;
+        ReviewSliceResponse response = reviewService.getReviews(memberId, restaurantId, pageable, cursor);
         return ResponseEntity.ok().body(response);
     }
 
     // 리뷰 상세 보기
     @GetMapping("/detail/{reviewId}")
     public ResponseEntity<ReviewDetailResponse> getReview(
+      @AuthenticationPrincipal UserDetails userDetails,
       @PathVariable Long reviewId
     ) {
-        ReviewDetailResponse response = reviewService.getReviewDetail(reviewId);
+        // 로그인하지 않아도 조회할 수 있고, 로그인했으면 내 반응을 함께 내려준다.
+        Long memberId = userDetails != null ? Long.parseLong(userDetails.getUsername()) : null;
+        ReviewDetailResponse response = reviewService.getReviewDetail(memberId, reviewId);
         return ResponseEntity.ok().body(response);
     }
 
@@ -1,6 +1,7 @@
 package matgo.auth.application;
 
 import static matgo.global.exception.ErrorCode.NOT_FOUND_MEMBER;
+import static matgo.global.exception.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
 import static matgo.global.exception.ErrorCode.UNAUTHORIZED;
 import static matgo.global.exception.ErrorCode.WRONG_PASSWORD;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -10,18 +11,18 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.Optional;
-import matgo.auth.domain.entity.Token;
-import matgo.auth.domain.repository.TokenRepository;
 import matgo.auth.dto.request.LoginRequest;
 import matgo.auth.dto.request.SendTemporaryPasswordRequest;
 import matgo.auth.dto.response.LoginResponse;
 import matgo.auth.exception.AuthException;
 import matgo.auth.jwt.JwtTokenProvider;
 import matgo.auth.security.CustomUserDetailService;
+import matgo.auth.security.MemberPrincipal;
 import matgo.common.BaseServiceTest;
 import matgo.global.util.SecurityUtil;
 import matgo.member.domain.entity.Member;
@@ -44,8 +45,6 @@ class AuthServiceTest extends BaseServiceTest {
     @InjectMocks
     private AuthService authService;
     @Mock
-    private TokenRepository tokenRepository;
-    @Mock
     private CustomUserDetailService customUserDetailService;
     @Mock
     private TokenService tokenService;
@@ -53,11 +52,16 @@ class AuthServiceTest extends BaseServiceTest {
     private JwtTokenProvider jwtTokenProvider;
     @Mock
     private UserDetails userDetails;
+    @Mock
+    private PasswordVerifier passwordVerifier;
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
 
     @Nested
     @DisplayName("login 메서드는")
     class login {
 
+        static final String CLIENT_IP = "127.0.0.1";
         LoginRequest loginRequest = new LoginRequest("test@naver.com", "1!asdasd", UserRole.ROLE_USER);
 
         @Test
@@ -69,16 +73,16 @@ class AuthServiceTest extends BaseServiceTest {
             doReturn(Collections.singleton(authority)).when(userDetails).getAuthorities();
             Authentication authentication = SecurityUtil.authenticate(userDetails);
             doReturn("encodedPassword").when(userDetails).getPassword();
-            doReturn(true).when(passwordEncoder).matches(any(), any());
+            doReturn(true).when(passwordVerifier).matches(any(), any());
             doReturn("accessToken").when(jwtTokenProvider).createAccessToken(authentication);
             doReturn("refreshToken").when(jwtTokenProvider).createRefreshToken(authentication);
-            doReturn(new Token("test@naver.com", "accessToken", "refreshToken")).when(tokenRepository).save(any());
 
             // when
-            LoginResponse result = authService.login(loginRequest);
+            LoginResponse result = authService.login(loginRequest, CLIENT_IP);
 
             // then
             assertThat(result.accessToken()).isEqualTo("accessToken");
+            verify(tokenService).saveToken(authentication.getName(), "accessToken", "refreshToken");
         }
 
         @Test
@@ -91,11 +95,25 @@ class AuthServiceTest extends BaseServiceTest {
             doReturn("encodedPassword").when(userDetails).getPassword();
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
               .isInstanceOf(AuthException.class)
               .hasMessageContaining(WRONG_PASSWORD.getMessage());
         }
 
+        @Test
+        @DisplayName("로그인 시도가 너무 많으면 회원을 조회하지 않고 예외를 던진다.")
+        void tooManyAttempts() {
+            // given
+            doThrow(new AuthException(TOO_MANY_LOGIN_ATTEMPTS)).when(loginRateLimiter)
+                                                               .acquire(loginRequest.email(), CLIENT_IP);
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+              .isInstanceOf(AuthException.class)
+              .hasMessageContaining(TOO_MANY_LOGIN_ATTEMPTS.getMessage());
+            verify(customUserDetailService, never()).loadUserByUsername(any());
+        }
+
         @Test
         @DisplayName("존재하지 않는 이메일로 로그인을 시도하면 예외를 던진다.")
         void notExistedEmail() {
@@ -103,7 +121,7 @@ class AuthServiceTest extends BaseServiceTest {
             doThrow(new MemberException(NOT_FOUND_MEMBER)).when(customUserDetailService).loadUserByUsername(any());
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
               .isInstanceOf(MemberException.class)
               .hasMessageContaining(NOT_FOUND_MEMBER.getMessage());
         }
@@ -117,7 +135,7 @@ class AuthServiceTest extends BaseServiceTest {
             doReturn(userDetails).when(customUserDetailService).loadUserByUsername(any());
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
               .isInstanceOf(AuthException.class)
               .hasMessageContaining(UNAUTHORIZED.getMessage());
         }
@@ -141,6 +159,38 @@ class AuthServiceTest extends BaseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("reissueToken 메서드는")
+    class reissueToken {
+
+        @Test
+        @DisplayName("회원의 현재 지역으로 토큰을 다시 발급하고 저장한다.")
+        void success() {
+            // given
+            Region region = new Region("중노송동");
+            Member member = Member.builder()
+                                  .id(1L)
+                                  .email("test@naver.com")
+                                  .password("encodedPassword")
+                                  .role(UserRole.ROLE_USER)
+                                  .region(region)
+                                  .build();
+            doReturn(Optional.of(member)).when(memberRepository).findById(1L);
+            doReturn("accessToken").when(jwtTokenProvider).createAccessToken(any());
+            doReturn("refreshToken").when(jwtTokenProvider).createRefreshToken(any());
+
+            // when
+            String result = authService.reissueToken(1L);
+
+            // then
+            ArgumentCaptor<Authentication> captor = ArgumentCaptor.forClass(Authentication.class);
+            verify(jwtTokenProvider).createAccessToken(captor.capture());
+            verify(tokenService).saveToken("1", "accessToken", "refreshToken");
+            assertThat(result).isEqualTo("accessToken");
+            assertThat(((MemberPrincipal) captor.getValue().getPrincipal()).getRegionName()).isEqualTo("중노송동");
+        }
+    }
+
     @Nested
     @DisplayName("forgetPassword 메서드는")
     class forgetPassword {
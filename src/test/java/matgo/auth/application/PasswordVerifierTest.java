@@ -0,0 +1,115 @@
+package matgo.auth.application;
+
+import static matgo.global.exception.ErrorCode.LOGIN_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import matgo.auth.exception.AuthException;
+import matgo.common.BaseServiceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class PasswordVerifierTest extends BaseServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        passwordVerifier = new PasswordVerifier(passwordEncoder, executor, meterRegistry, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Nested
+    @DisplayName("matches 메서드는")
+    class Matches {
+
+        @Test
+        @DisplayName("전용 executor 에서 비밀번호를 검증하고 검증 시간과 대기 시간을 기록한다.")
+        void matches_success() {
+            // given
+            doReturn(true).when(passwordEncoder).matches("password", "encodedPassword");
+
+            // when
+            boolean result = passwordVerifier.matches("password", "encodedPassword");
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result).isTrue();
+                softly.assertThat(meterRegistry.get("auth.password.verify").timer().count()).isEqualTo(1);
+                softly.assertThat(meterRegistry.get("auth.password.verify.queue.wait").timer().count()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("검증 스레드와 큐가 모두 차 있으면 기다리지 않고 예외를 던진다.")
+        void matches_overloaded() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return true;
+            }).when(passwordEncoder).matches("password", "encodedPassword");
+            CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+              () -> passwordVerifier.matches("password", "encodedPassword"));
+            started.await(5, TimeUnit.SECONDS);
+
+            // when & then
+            assertThatThrownBy(() -> passwordVerifier.matches("other", "encodedPassword"))
+              .isInstanceOf(AuthException.class)
+              .hasMessageContaining(LOGIN_OVERLOADED.getMessage());
+            release.countDown();
+            assertSoftly(softly -> {
+                softly.assertThat(first.join()).isTrue();
+                softly.assertThat(meterRegistry.get("auth.password.verify.rejected").counter().count()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("제한 시간 안에 검증이 끝나지 않으면 기다리지 않고 예외를 던진다.")
+        void matches_timeout() {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                release.await();
+                return true;
+            }).when(passwordEncoder).matches("password", "encodedPassword");
+            PasswordVerifier shortTimeoutVerifier = new PasswordVerifier(passwordEncoder, executor, meterRegistry, 50);
+
+            // when & then
+            try {
+                assertThatThrownBy(() -> shortTimeoutVerifier.matches("password", "encodedPassword"))
+                  .isInstanceOf(AuthException.class)
+                  .hasMessageContaining(LOGIN_OVERLOADED.getMessage());
+            } finally {
+                release.countDown();
+            }
+            assertSoftly(softly -> softly.assertThat(meterRegistry.get("auth.password.verify.timeout")
+                                                                  .counter()
+                                                                  .count()).isEqualTo(1));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package matgo.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import matgo.auth.domain.entity.Token;
+import matgo.auth.domain.repository.TokenRepository;
+import matgo.auth.exception.TokenException;
+import matgo.common.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class TokenServiceTest extends BaseServiceTest {
+
+    @Mock
+    private TokenRepository tokenRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = new TokenService(tokenRepository, meterRegistry, 45, 120);
+    }
+
+    private double refreshCount(String result) {
+        return meterRegistry.get("auth.token.refresh").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("reissueAccessToken 메서드는")
+    class ReissueAccessToken {
+
+        @Test
+        @DisplayName("저장된 refresh token 으로 새 access token 을 발급하고, 만료된 토큰의 key 에 다시 써둔다.")
+        void reissueAccessToken_success() {
+            // given
+            Token token = new Token("1", "refreshToken", null, 0L);
+            doReturn(Optional.of(token)).when(tokenRepository).findByAccessToken("expired");
+
+            // when
+            String result = tokenService.reissueAccessToken("expired", refreshToken -> "reissued-" + refreshToken);
+
+            // then
+            verify(tokenRepository).saveReissued("expired", "reissued-refreshToken", token, Duration.ofSeconds(120));
+            assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("reissued-refreshToken");
+                softly.assertThat(refreshCount("reissued")).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("조금 전에 재발급한 토큰이 있으면 다시 서명하지 않고 그 토큰을 돌려준다.")
+        void reissueAccessToken_reuse() {
+            // given
+            Token token = new Token("1", "refreshToken", "reissued", System.currentTimeMillis());
+            doReturn(Optional.of(token)).when(tokenRepository).findByAccessToken("expired");
+
+            // when
+            String result = tokenService.reissueAccessToken("expired", refreshToken -> {
+                throw new AssertionError("must not issue");
+            });
+
+            // then
+            verify(tokenRepository, never()).saveReissued(anyString(), anyString(), any(), any());
+            assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("reissued");
+                softly.assertThat(refreshCount("reused")).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("재발급한 지 오래된 토큰은 다시 발급한다.")
+        void reissueAccessToken_stale_reissued() {
+            // given
+            long reissuedAt = System.currentTimeMillis() - Duration.ofSeconds(50).toMillis();
+            Token token = new Token("1", "refreshToken", "reissued", reissuedAt);
+            doReturn(Optional.of(token)).when(tokenRepository).findByAccessToken("expired");
+
+            // when
+            String result = tokenService.reissueAccessToken("expired", refreshToken -> "new");
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("new");
+                softly.assertThat(refreshCount("reissued")).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("저장된 토큰이 없으면 예외를 던진다.")
+        void reissueAccessToken_miss() {
+            // given
+            doReturn(Optional.empty()).when(tokenRepository).findByAccessToken("expired");
+
+            // when & then
+            assertThatThrownBy(() -> tokenService.reissueAccessToken("expired", refreshToken -> "new"))
+              .isInstanceOf(TokenException.class);
+            assertSoftly(softly -> softly.assertThat(refreshCount("miss")).isEqualTo(1));
+        }
+    }
+}
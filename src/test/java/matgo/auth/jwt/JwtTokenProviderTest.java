@@ -0,0 +1,108 @@
+package matgo.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.List;
+import matgo.auth.exception.TokenException;
+import matgo.auth.security.MemberPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, null,
+      new JwtAuthenticationCache(meterRegistry, 30, 100));
+
+    private static Authentication authentication() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return new UsernamePasswordAuthenticationToken(new User("1", "", authorities), null, authorities);
+    }
+
+    @Nested
+    @DisplayName("authenticateAccessToken 메서드는")
+    class AuthenticateAccessToken {
+
+        @Test
+        @DisplayName("토큰을 한 번 파싱해서 Authentication 을 만들고, 같은 토큰은 캐시에서 꺼낸다.")
+        void authenticateAccessToken_success() {
+            // given
+            String accessToken = jwtTokenProvider.createAccessToken(authentication());
+
+            // when
+            Authentication first = jwtTokenProvider.authenticateAccessToken(accessToken);
+            Authentication second = jwtTokenProvider.authenticateAccessToken(accessToken);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(first.getName()).isEqualTo("1");
+                softly.assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                      .containsExactly("ROLE_USER");
+                softly.assertThat(second).isSameAs(first);
+                softly.assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                      .isEqualTo(1.0);
+            });
+        }
+
+        @Test
+        @DisplayName("지역 claim 을 MemberPrincipal 로 꺼내서, 회원을 조회하지 않고 지역을 알 수 있다.")
+        void authenticateAccessToken_region_claims() {
+            // given
+            List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+            MemberPrincipal memberPrincipal = new MemberPrincipal("1", "password", 3L, "효자동3가", authorities);
+            String accessToken = jwtTokenProvider.createAccessToken(
+              new UsernamePasswordAuthenticationToken(memberPrincipal, null, authorities));
+
+            // when
+            Authentication result = jwtTokenProvider.authenticateAccessToken(accessToken);
+
+            // then
+            MemberPrincipal principal = (MemberPrincipal) result.getPrincipal();
+            assertSoftly(softly -> {
+                softly.assertThat(principal.getMemberId()).isEqualTo(1L);
+                softly.assertThat(principal.getRegionId()).isEqualTo(3L);
+                softly.assertThat(principal.getRegionName()).isEqualTo("효자동3가");
+                softly.assertThat(principal.getPassword()).isEmpty();
+                softly.assertThat(Base64.getDecoder().decode(accessToken.split("\\.")[1])).asString()
+                      .contains("regionName");
+            });
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명된 토큰이면 예외를 던지고 캐시하지 않는다.")
+        void authenticateAccessToken_invalid_signature() {
+            // given
+            JwtTokenProvider otherProvider = new JwtTokenProvider("other-secret-key-must-be-at-least-256-bits-long",
+              null, new JwtAuthenticationCache(new SimpleMeterRegistry(), 30, 100));
+            String accessToken = otherProvider.createAccessToken(authentication());
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(accessToken))
+              .isInstanceOf(TokenException.class)
+              .hasMessageContaining("유효하지 않은 엑세스토큰입니다.");
+            assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(accessToken))
+              .isInstanceOf(TokenException.class)
+              .hasMessageContaining("유효하지 않은 엑세스토큰입니다.");
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 예외를 던진다.")
+        void authenticateAccessToken_empty() {
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(null))
+              .isInstanceOf(TokenException.class)
+              .hasMessageContaining("엑세스토큰이 존재하지 않습니다.");
+        }
+    }
+}
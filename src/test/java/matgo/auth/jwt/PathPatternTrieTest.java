@@ -0,0 +1,76 @@
+package matgo.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+class PathPatternTrieTest {
+
+    private static final List<String> PATHS = List.of(
+      "/docs", "/docs/", "/docs/index.html", "/docs/a/b/c", "/docsx",
+      "/v3/api-docs", "/v3/api-docs/swagger-config",
+      "/api/auth/login", "/api/auth/login/", "/api/auth/logout", "/api/auth",
+      "/api/member/signup", "/api/member/me",
+      "/api/restaurants", "/api/restaurants/", "/api/restaurants/search", "/api/restaurants/1",
+      "/api/restaurants/detail/1", "/api/restaurants/detail",
+      "/api/reviews/1", "/api/reviews/detail", "/api/reviews/detail/1", "/api/reviews/1/reactions/me",
+      "/api/reviews//1", "/api/posts/1",
+      "/actuator/health", "/actuator/health/liveness", "/actuator/metrics", "/actuator", "/", ""
+    );
+
+    @Nested
+    @DisplayName("matches 메서드는")
+    class Matches {
+
+        @Test
+        @DisplayName("필터의 화이트리스트에 대해 AntPathMatcher 와 같은 결과를 낸다.")
+        void matches_same_as_ant_path_matcher() {
+            // given
+            AntPathMatcher antPathMatcher = new AntPathMatcher();
+            PathPatternTrie whitelist = new PathPatternTrie(JwtTokenFilter.WHITELIST);
+            PathPatternTrie optional = new PathPatternTrie(JwtTokenFilter.OPTIONAL_AUTHENTICATION);
+
+            // when & then
+            assertSoftly(softly -> PATHS.forEach(path -> {
+                softly.assertThat(whitelist.matches(path))
+                      .as(path)
+                      .isEqualTo(Arrays.stream(JwtTokenFilter.WHITELIST)
+                                       .anyMatch(pattern -> antPathMatcher.match(pattern, path)));
+                softly.assertThat(optional.matches(path))
+                      .as(path)
+                      .isEqualTo(Arrays.stream(JwtTokenFilter.OPTIONAL_AUTHENTICATION)
+                                       .anyMatch(pattern -> antPathMatcher.match(pattern, path)));
+            }));
+        }
+
+        @Test
+        @DisplayName("고정 segment 가 맞지 않으면 같은 위치의 변수 segment 로 다시 매칭한다.")
+        void matches_backtrack_to_variable() {
+            // given
+            PathPatternTrie trie = new PathPatternTrie("/api/reviews/detail/{reviewId}", "/api/reviews/{restaurantId}");
+
+            // when & then
+            assertSoftly(softly -> {
+                softly.assertThat(trie.matches("/api/reviews/detail")).isTrue();
+                softly.assertThat(trie.matches("/api/reviews/detail/1")).isTrue();
+                softly.assertThat(trie.matches("/api/reviews/1/2")).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("segment 중간의 와일드카드나 중간에 오는 ** 는 만들 때 예외를 던진다.")
+        void unsupported_pattern() {
+            // when & then
+            assertThatThrownBy(() -> new PathPatternTrie("/api/*.json"))
+              .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new PathPatternTrie("/api/**/detail"))
+              .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import matgo.auth.application.MailService;
 import matgo.auth.dto.request.LoginRequest;
 import matgo.auth.dto.request.SendTemporaryPasswordRequest;
 import matgo.global.filesystem.s3.S3Service;
+import matgo.global.reaction.ReactionCountBuffer;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.entity.Region;
 import matgo.member.domain.repository.MemberRepository;
@@ -31,6 +32,7 @@ import matgo.post.domain.repository.PostQueryRepository;
 import matgo.post.domain.repository.PostRepository;
 import matgo.post.dto.request.PostCreateRequest;
 import matgo.post.dto.request.PostUpdateRequest;
+import matgo.restaurant.application.RestaurantDetailCache;
 import matgo.restaurant.domain.repository.RestaurantRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
@@ -45,6 +47,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -98,6 +101,8 @@ public abstract class BaseControllerTest {
     @MockBean
     protected RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
     @Autowired
+    protected RestaurantDetailCache restaurantDetailCache;
+    @Autowired
     protected PostRepository postRepository;
     @Autowired
     protected PostQueryRepository postQueryRepository;
@@ -108,6 +113,10 @@ public abstract class BaseControllerTest {
 
     @Autowired
     private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private ReactionCountBuffer reactionCountBuffer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     protected static RequestSpecification customGiven() {
         final RequestSpecification customGiven = given();
@@ -130,7 +139,7 @@ public abstract class BaseControllerTest {
 
         spec = new RequestSpecBuilder().addFilter(documentConfig).build();
 
-        databaseCleaner.execute();
+        cleanUp();
         region = regionRepository.save(new Region("효자동3가"));
         String password = passwordEncoder.encode("1!asdasd");
         member = Member.builder()
@@ -162,6 +171,14 @@ public abstract class BaseControllerTest {
 
     @AfterEach
     void tearDown() {
+        cleanUp();
+    }
+
+    // 테스트마다 식당 id 가 1 부터 다시 시작하므로, 테이블을 비우기 전에 남아있는 식당(삭제된 식당 포함)의 상세 캐시를 비운다.
+    // 반응 수 증감도 id 로 모아두므로, 다음 테스트의 같은 id 에 더해 보이지 않도록 테이블을 비우기 전에 반영해둔다.
+    private void cleanUp() {
+        restaurantDetailCache.evictAll(jdbcTemplate.queryForList("SELECT id FROM restaurant", Long.class));
+        reactionCountBuffer.flush();
         databaseCleaner.execute();
     }
 }
\ No newline at end of file
@@ -3,13 +3,19 @@ package matgo.common;
 import matgo.auth.application.MailService;
 import matgo.auth.domain.repository.EmailVerificationRepository;
 import matgo.global.filesystem.s3.S3Service;
+import matgo.global.reaction.ReactionCommandRepository;
+import matgo.global.reaction.ReactionCountBuffer;
+import matgo.global.reaction.ReactionQueryRepository;
 import matgo.member.domain.repository.MemberRepository;
 import matgo.member.domain.repository.RegionRepository;
+import matgo.restaurant.application.RestaurantDetailCache;
 import matgo.restaurant.domain.repository.RestaurantQueryRepository;
 import matgo.restaurant.domain.repository.RestaurantRepository;
+import matgo.restaurant.domain.repository.RestaurantSearchOutboxRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepository;
 import matgo.restaurant.domain.repository.RestaurantSearchRepositoryImpl;
 import matgo.restaurant.feignclient.JeonjuRestaurantClient;
+import matgo.review.application.ReviewSliceCache;
 import matgo.review.domain.repository.ReviewQueryRepository;
 import matgo.review.domain.repository.ReviewReactionRepository;
 import matgo.review.domain.repository.ReviewRepository;
@@ -40,10 +46,22 @@ public abstract class BaseServiceTest {
     @Mock
     protected RestaurantSearchRepositoryImpl restaurantSearchRepositoryImpl;
     @Mock
+    protected RestaurantSearchOutboxRepository restaurantSearchOutboxRepository;
+    @Mock
+    protected RestaurantDetailCache restaurantDetailCache;
+    @Mock
     protected ReviewRepository reviewRepository;
     @Mock
+    protected ReviewSliceCache reviewSliceCache;
+    @Mock
     protected ReviewReactionRepository reviewReactionRepository;
     @Mock
+    protected ReactionCommandRepository reactionCommandRepository;
+    @Mock
+    protected ReactionCountBuffer reactionCountBuffer;
+    @Mock
+    protected ReactionQueryRepository reactionQueryRepository;
+    @Mock
     protected ReviewQueryRepository reviewQueryRepository;
     @Mock
     protected S3Service s3Service;
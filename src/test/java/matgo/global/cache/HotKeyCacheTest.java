@@ -0,0 +1,94 @@
+package matgo.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HotKeyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HotKeyCache<Long, String> hotKeyCache = new HotKeyCache<>("test", 1, 2, Duration.ofMinutes(1),
+      meterRegistry);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private String load(Long key) {
+        return hotKeyCache.get(key, () -> "value-" + key + "-" + loadCount.incrementAndGet());
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class Get {
+
+        @Test
+        @DisplayName("hot key 가 아니면 매번 loader 를 호출한다.")
+        void get_not_hot() {
+            // when
+            load(1L);
+            load(1L);
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("지난 구간의 상위 key 는 고정된 값을 돌려준다.")
+        void get_hot() {
+            // given
+            load(1L);
+            load(1L);
+            load(1L);
+            load(2L);
+            load(2L);
+            hotKeyCache.rotate();
+
+            // when
+            String first = load(1L);
+            String second = load(1L);
+            load(2L);
+
+            // then
+            assertThat(hotKeyCache.isHot(1L)).isTrue();
+            assertThat(hotKeyCache.isHot(2L)).isFalse();
+            assertThat(second).isEqualTo(first);
+            assertThat(loadCount.get()).isEqualTo(7);
+            assertThat(meterRegistry.counter("cache.hotkey.hits", "name", "test").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회 수가 최소 기준보다 적으면 hot key 로 선정하지 않는다.")
+        void get_below_min_hits() {
+            // given
+            load(1L);
+            hotKeyCache.rotate();
+
+            // then
+            assertThat(hotKeyCache.isHot(1L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateIf 메서드는")
+    class InvalidateIf {
+
+        @Test
+        @DisplayName("조건에 맞는 고정된 값을 지워서 다음 조회에서 다시 읽는다.")
+        void invalidate_success() {
+            // given
+            load(1L);
+            load(1L);
+            hotKeyCache.rotate();
+            String before = load(1L);
+
+            // when
+            hotKeyCache.invalidateIf(key -> key.equals(1L));
+
+            // then
+            assertThat(load(1L)).isNotEqualTo(before);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package matgo.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Nested
+    @DisplayName("load 메서드는")
+    class Load {
+
+        @Test
+        @DisplayName("같은 key 로 동시에 들어온 조회는 loader 를 한 번만 실행한다.")
+        void load_coalesce() throws Exception {
+            // given
+            int threadCount = 10;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> singleFlight.load(1L, () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            })));
+            loading.await(1, TimeUnit.SECONDS);
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executorService.submit(() -> singleFlight.load(1L, () -> {
+                    loadCount.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 나머지 요청이 진행 중인 조회에 합쳐질 때까지 기다린다.
+            while (meterRegistry.counter("cache.singleflight.coalesced", "name", "test").count() < threadCount - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+            executorService.shutdown();
+        }
+
+        @Test
+        @DisplayName("조회가 끝나면 다음 요청은 다시 loader 를 실행한다.")
+        void load_after_complete() {
+            // when
+            singleFlight.load(1L, () -> "first");
+            String value = singleFlight.load(1L, () -> "second");
+
+            // then
+            assertThat(value).isEqualTo("second");
+        }
+
+        @Test
+        @DisplayName("loader 의 예외는 그대로 던진다.")
+        void load_exception() {
+            assertThatThrownBy(() -> singleFlight.load(1L, () -> {
+                throw new IllegalStateException("fail");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(singleFlight.load(1L, () -> "value")).isEqualTo("value");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package matgo.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import matgo.common.BaseServiceTest;
+import matgo.global.exception.ErrorCode;
+import matgo.global.lock.annotation.DistributedLock;
+import matgo.global.lock.aop.AopForTransaction;
+import matgo.global.lock.aop.DistributedLockAop;
+import matgo.global.lock.exception.LockException;
+import matgo.global.lock.provider.LockHandle;
+import matgo.global.lock.provider.LockProvider;
+import matgo.global.lock.util.LockKeyResolver;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class DistributedLockAopTest extends BaseServiceTest {
+
+    @Mock
+    private LockProvider lockProvider;
+    @Mock
+    private AopForTransaction aopForTransaction;
+    @Mock
+    private LockHandle lock;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLockAop distributedLockAop;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        distributedLockAop = new DistributedLockAop(lockProvider, aopForTransaction, new LockKeyResolver(),
+          meterRegistry);
+        doReturn(signature).when(joinPoint).getSignature();
+    }
+
+    private void stubMethod(String name, String[] parameterNames, Object[] args, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+        doReturn(LockTarget.class.getDeclaredMethod(name, parameterTypes)).when(signature).getMethod();
+        doReturn(parameterNames).when(signature).getParameterNames();
+        doReturn(args).when(joinPoint).getArgs();
+        doReturn(lock).when(lockProvider).getLock(name + "-1");
+    }
+
+    static class LockTarget {
+
+        @DistributedLock(key = "'guarded-' + #id")
+        public String guarded(Long id, FencingToken token) {
+            return "ok";
+        }
+
+        @DistributedLock(key = "'unguarded-' + #id")
+        public String unguarded(Long id) {
+            return "ok";
+        }
+    }
+
+    @Nested
+    @DisplayName("lock 메서드는")
+    class Lock {
+
+        @Test
+        @DisplayName("락을 얻으면 fencing token 을 넘겨서 실행하고 락을 푼다.")
+        void lock_success() throws Throwable {
+            // given
+            stubMethod("guarded", new String[]{"id", "token"}, new Object[]{1L, null}, Long.class, FencingToken.class);
+            doReturn(true).when(lock).tryLock(0L, -1L, TimeUnit.SECONDS);
+            doReturn(7L).when(lockProvider).nextFencingToken("guarded");
+            doReturn("ok").when(aopForTransaction).proceed(joinPoint, new Object[]{1L, new FencingToken(7L)});
+
+            // when
+            Object result = distributedLockAop.lock(joinPoint);
+
+            // then
+            verify(lock).unlock();
+            assertSoftly(softly -> {
+                softly.assertThat(result).isEqualTo("ok");
+                softly.assertThat(meterRegistry.get("lock.wait").tag("result", "acquired").timer().count())
+                      .isEqualTo(1);
+                softly.assertThat(meterRegistry.get("lock.hold").tag("prefix", "guarded").timer().count())
+                      .isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("FencingToken 파라미터가 없는 메서드는 fencing token 을 발급하지 않는다.")
+        void lock_without_fencing_token() throws Throwable {
+            // given
+            Object[] args = {1L};
+            stubMethod("unguarded", new String[]{"id"}, args, Long.class);
+            doReturn(true).when(lock).tryLock(0L, -1L, TimeUnit.SECONDS);
+            doReturn("ok").when(aopForTransaction).proceed(joinPoint, args);
+
+            // when
+            Object result = distributedLockAop.lock(joinPoint);
+
+            // then
+            verify(lockProvider, never()).nextFencingToken(anyString());
+            verify(lock).unlock();
+            assertSoftly(softly -> softly.assertThat(result).isEqualTo("ok"));
+        }
+
+        @Test
+        @DisplayName("기다려도 락을 얻지 못하면 LockException 을 던진다.")
+        void lock_timeout() throws Throwable {
+            // given
+            stubMethod("guarded", new String[]{"id", "token"}, new Object[]{1L, null}, Long.class, FencingToken.class);
+            doReturn(false).when(lock).tryLock(0L, -1L, TimeUnit.SECONDS);
+            doReturn(false).when(lock).tryLock(5L, -1L, TimeUnit.SECONDS);
+
+            // when & then
+            assertThatThrownBy(() -> distributedLockAop.lock(joinPoint))
+              .isInstanceOf(LockException.class)
+              .hasMessage(ErrorCode.LOCK_ACQUISITION_FAILED.getMessage());
+            verify(aopForTransaction, never()).proceed(any(), any());
+            verify(lock, never()).unlock();
+            assertSoftly(softly -> softly.assertThat(meterRegistry.get("lock.contention")
+                                                                  .tag("prefix", "guarded")
+                                                                  .counter()
+                                                                  .count()).isEqualTo(1));
+        }
+    }
+}
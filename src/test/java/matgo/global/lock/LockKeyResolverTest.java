@@ -0,0 +1,39 @@
+package matgo.global.lock;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.lang.reflect.Method;
+import matgo.global.lock.util.LockKeyResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LockKeyResolverTest {
+
+    private final LockKeyResolver lockKeyResolver = new LockKeyResolver();
+
+    @Nested
+    @DisplayName("resolve 메서드는")
+    class Resolve {
+
+        @Test
+        @DisplayName("메서드 인자로 key 를 계산하고, 같은 메서드는 인자가 바뀌어도 다시 계산한다.")
+        void resolve_success() throws NoSuchMethodException {
+            // given
+            Method method = Resolve.class.getDeclaredMethod("resolve_success");
+            String key = "'createReview-' + #memberId + '-' + #restaurantId";
+            String[] parameterNames = {"memberId", "restaurantId"};
+
+            // when
+            String first = lockKeyResolver.resolve(method, key, parameterNames, new Object[]{1L, 2L});
+            String second = lockKeyResolver.resolve(method, key, parameterNames, new Object[]{3L, 4L});
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(first).isEqualTo("createReview-1-2");
+                softly.assertThat(second).isEqualTo("createReview-3-4");
+                softly.assertThat(lockKeyResolver.prefix(first)).isEqualTo("createReview");
+            });
+        }
+    }
+}
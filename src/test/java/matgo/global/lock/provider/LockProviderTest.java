@@ -0,0 +1,140 @@
+package matgo.global.lock.provider;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import matgo.common.BaseServiceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class LockProviderTest extends BaseServiceTest {
+
+    @Mock
+    private RedisLockProvider redisLockProvider;
+    @Mock
+    private LockHandle redisLock;
+
+    @Nested
+    @DisplayName("StripedLocalLockProvider 는")
+    class StripedLocal {
+
+        private final StripedLocalLockProvider lockProvider = new StripedLocalLockProvider(16);
+
+        @Test
+        @DisplayName("같은 key 를 잡으려는 스레드를 한 번에 하나씩 실행한다.")
+        void lock_serialize() throws Exception {
+            // given
+            int threadCount = 8;
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executorService.submit(() -> {
+                    LockHandle lock = lockProvider.getLock("createComment-1");
+                    if (!lock.tryLock(5, -1, TimeUnit.SECONDS)) {
+                        return false;
+                    }
+                    try {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                        running.decrementAndGet();
+                        return true;
+                    } finally {
+                        lock.unlock();
+                    }
+                }));
+            }
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                acquired += result.get() ? 1 : 0;
+            }
+            executorService.shutdown();
+
+            // then
+            int total = acquired;
+            assertSoftly(softly -> {
+                softly.assertThat(total).isEqualTo(threadCount);
+                softly.assertThat(maxRunning.get()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("fencing token 은 prefix 마다 1 씩 커진다.")
+        void fencing_token() {
+            // when
+            long first = lockProvider.nextFencingToken("createComment");
+            long second = lockProvider.nextFencingToken("createComment");
+            long other = lockProvider.nextFencingToken("deleteComment");
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(second).isEqualTo(first + 1);
+                softly.assertThat(other).isEqualTo(1);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("HybridLockProvider 는")
+    class Hybrid {
+
+        private final StripedLocalLockProvider localLockProvider = new StripedLocalLockProvider(16);
+
+        @Test
+        @DisplayName("local stripe 를 잡은 뒤 redis 락을 잡고, 풀 때는 둘 다 푼다.")
+        void lock_success() throws InterruptedException {
+            // given
+            HybridLockProvider lockProvider = new HybridLockProvider(localLockProvider, redisLockProvider);
+            doReturn(redisLock).when(redisLockProvider).getLock("createComment-1");
+            doReturn(true).when(redisLock).tryLock(anyLong(), eq(-1L), eq(TimeUnit.NANOSECONDS));
+
+            // when
+            LockHandle lock = lockProvider.getLock("createComment-1");
+            boolean acquired = lock.tryLock(1, -1, TimeUnit.SECONDS);
+            boolean heldLocally = localLockProvider.stripe("createComment-1").isHeldByCurrentThread();
+            lock.unlock();
+
+            // then
+            verify(redisLock).unlock();
+            assertSoftly(softly -> {
+                softly.assertThat(acquired).isTrue();
+                softly.assertThat(heldLocally).isTrue();
+                softly.assertThat(localLockProvider.stripe("createComment-1").isLocked()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("redis 락을 얻지 못하면 잡았던 local stripe 도 푼다.")
+        void lock_redis_failed() throws InterruptedException {
+            // given
+            HybridLockProvider lockProvider = new HybridLockProvider(localLockProvider, redisLockProvider);
+            doReturn(redisLock).when(redisLockProvider).getLock("createComment-1");
+            doThrow(new IllegalStateException("redis down")).when(redisLock)
+                                                             .tryLock(anyLong(), eq(-1L), eq(TimeUnit.NANOSECONDS));
+
+            // when & then
+            LockHandle lock = lockProvider.getLock("createComment-1");
+            assertThatThrownBy(() -> lock.tryLock(1, -1, TimeUnit.SECONDS))
+              .isInstanceOf(IllegalStateException.class);
+            assertSoftly(softly -> softly.assertThat(localLockProvider.stripe("createComment-1").isLocked())
+                                         .isFalse());
+        }
+    }
+}
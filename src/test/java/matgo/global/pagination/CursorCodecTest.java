@@ -0,0 +1,65 @@
+package matgo.global.pagination;
+
+import static matgo.global.exception.ErrorCode.INVALID_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    private static final String SORT = "rating:DESC,reviewCount:DESC,id:ASC";
+
+    @Nested
+    @DisplayName("decode 메서드는")
+    class Decode {
+
+        @Test
+        @DisplayName("encode 한 정렬 값을 그대로 복원한다.")
+        void decode_success() {
+            // given
+            String cursor = CursorCodec.encode(SORT, List.of(4.5, 12, "10"));
+
+            // when
+            List<Object> values = CursorCodec.decode(cursor, SORT, 3);
+
+            // then
+            assertThat(values).containsExactly(4.5, 12, "10");
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 cursor 는 예외가 발생한다.")
+        void decode_invalid_format() {
+            assertThatThrownBy(() -> CursorCodec.decode("not a cursor!", SORT, 1))
+              .isInstanceOf(CursorException.class)
+              .hasMessage(INVALID_CURSOR.getMessage());
+        }
+
+        @Test
+        @DisplayName("정렬 조건 수와 값의 수가 다르면 예외가 발생한다.")
+        void decode_size_mismatch() {
+            // given
+            String cursor = CursorCodec.encode(SORT, List.of("10"));
+
+            // when, then
+            assertThatThrownBy(() -> CursorCodec.decode(cursor, SORT, 2))
+              .isInstanceOf(CursorException.class)
+              .hasMessage(INVALID_CURSOR.getMessage());
+        }
+
+        @Test
+        @DisplayName("값의 수가 같아도 다른 정렬로 발급된 cursor 는 예외가 발생한다.")
+        void decode_sort_mismatch() {
+            // given
+            String cursor = CursorCodec.encode("rating:DESC,id:ASC", List.of(4, "10"));
+
+            // when, then
+            assertThatThrownBy(() -> CursorCodec.decode(cursor, "likeCount:DESC,id:ASC", 2))
+              .isInstanceOf(CursorException.class)
+              .hasMessage(INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package matgo.global.reaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import matgo.common.BaseServiceTest;
+import matgo.global.type.Reaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+class ReactionCountBufferTest extends BaseServiceTest {
+
+    private ReactionCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ReactionCountBuffer(reactionCommandRepository, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("pending 메서드는")
+    class Pending {
+
+        @Test
+        @DisplayName("아직 반영되지 않은 증감을 대상별로 합쳐서 돌려준다.")
+        void pending_success() {
+            // given
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.switchedTo(Reaction.DISLIKE));
+            buffer.add(ReactionTarget.POST, 1L, ReactionChange.added(Reaction.LIKE));
+
+            // when
+            Map<Long, ReactionChange> pending = buffer.pending(ReactionTarget.REVIEW, List.of(1L, 2L));
+
+            // then
+            assertThat(pending).containsExactly(Map.entry(1L, new ReactionChange(0, 1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    class Flush {
+
+        @Test
+        @DisplayName("모아둔 증감을 대상별로 한 번에 반영하고 비운다.")
+        void flush_success() {
+            // given
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+            buffer.add(ReactionTarget.REVIEW, 2L, ReactionChange.added(Reaction.DISLIKE));
+            buffer.add(ReactionTarget.POST, 3L, ReactionChange.cancelled(Reaction.LIKE));
+
+            // when
+            buffer.flush();
+
+            // then
+            verify(reactionCommandRepository, times(1)).addCounts(ReactionTarget.REVIEW, Map.of(
+              1L, new ReactionChange(2, 0),
+              2L, new ReactionChange(0, 1)
+            ));
+            verify(reactionCommandRepository, times(1)).addCounts(ReactionTarget.POST, Map.of(
+              3L, new ReactionChange(-1, 0)
+            ));
+            assertThat(buffer.pending(ReactionTarget.REVIEW, List.of(1L, 2L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("모아둔 증감이 없으면 DB 에 반영하지 않는다.")
+        void flush_empty() {
+            // when
+            buffer.flush();
+
+            // then
+            verify(reactionCommandRepository, never()).addCounts(any(), anyMap());
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 증감을 다시 모아둔다.")
+        void flush_fail() {
+            // given
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+            doThrow(new IllegalStateException()).when(reactionCommandRepository).addCounts(any(), anyMap());
+
+            // when
+            buffer.flush();
+
+            // then
+            assertThat(buffer.pending(ReactionTarget.REVIEW, List.of(1L)))
+              .containsExactly(Map.entry(1L, new ReactionChange(1, 0)));
+        }
+
+        @Test
+        @DisplayName("DB 에 보내는 동안에도 보내는 중인 증감을 pending 에 포함한다.")
+        void flush_pending_while_sending() {
+            // given
+            buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+            List<Map<Long, ReactionChange>> pendingWhileSending = new ArrayList<>();
+            doAnswer(invocation -> pendingWhileSending.add(buffer.pending(ReactionTarget.REVIEW, List.of(1L))))
+              .when(reactionCommandRepository).addCounts(any(), anyMap());
+
+            // when
+            buffer.flush();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(pendingWhileSending)
+                      .containsExactly(Map.of(1L, new ReactionChange(1, 0)));
+                softly.assertThat(buffer.pending(ReactionTarget.REVIEW, List.of(1L))).isEmpty();
+            });
+        }
+
+        @Test
+        @DisplayName("식당 수집 같은 긴 작업이 scheduler 스레드를 잡고 있어도 주기적으로 반영한다.")
+        void flush_while_long_job_runs() {
+            // given
+            // spring.task.scheduling.pool.size 로 만들어지는 scheduler 와 같은 구성
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setPoolSize(2);
+            scheduler.initialize();
+            CountDownLatch release = new CountDownLatch(1);
+            try {
+                scheduler.submit(() -> release.await(5, TimeUnit.SECONDS));
+                scheduler.scheduleWithFixedDelay(buffer::flush, Duration.ofMillis(50));
+
+                // when
+                buffer.add(ReactionTarget.REVIEW, 1L, ReactionChange.added(Reaction.LIKE));
+
+                // then
+                verify(reactionCommandRepository, timeout(2000)).addCounts(ReactionTarget.REVIEW,
+                  Map.of(1L, new ReactionChange(1, 0)));
+            } finally {
+                release.countDown();
+                scheduler.shutdown();
+            }
+        }
+    }
+}
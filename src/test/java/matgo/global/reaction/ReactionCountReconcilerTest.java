@@ -0,0 +1,100 @@
+package matgo.global.reaction;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import matgo.common.BaseServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class ReactionCountReconcilerTest extends BaseServiceTest {
+
+    @Mock
+    private ReactionCountRepository reactionCountRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactionCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new ReactionCountReconciler(reactionCountRepository, reactionCountBuffer, meterRegistry, 2);
+        lenient().doAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get())
+                 .when(reactionCountBuffer).pausingFlush(any());
+        lenient().doReturn(List.of()).when(reactionCountRepository).findAggregatesAfter(any(), eq(0L), eq(2));
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드는")
+    class Reconcile {
+
+        @Test
+        @DisplayName("batch 단위로 대상을 읽고, 아직 flush 되지 않은 증감을 뺀 값과 다른 대상만 고친다.")
+        void reconcile_success() {
+            // given
+            ReactionCountAggregate correct = new ReactionCountAggregate(1L, 2, 0, 2, 0);
+            ReactionCountAggregate drifted = new ReactionCountAggregate(2L, 5, 1, 3, 1);
+            ReactionCountAggregate pendingOnly = new ReactionCountAggregate(3L, 0, 0, 1, 0);
+            doReturn(List.of(correct, drifted)).when(reactionCountRepository)
+                                               .findAggregatesAfter(ReactionTarget.REVIEW, 0L, 2);
+            doReturn(List.of(pendingOnly)).when(reactionCountRepository)
+                                          .findAggregatesAfter(ReactionTarget.REVIEW, 2L, 2);
+            doReturn(Map.of()).when(reactionCountBuffer).pending(ReactionTarget.REVIEW, List.of(1L, 2L));
+            doReturn(Map.of(3L, new ReactionChange(1, 0))).when(reactionCountBuffer)
+                                                          .pending(ReactionTarget.REVIEW, List.of(3L));
+            doReturn(List.of(2L)).when(reactionCountRepository).updateCounts(ReactionTarget.REVIEW, List.of(drifted));
+
+            // when
+            reconciler.reconcile();
+
+            // then
+            verify(reactionCountRepository, never()).updateCounts(eq(ReactionTarget.POST), anyList());
+            assertSoftly(softly -> softly.assertThat(meterRegistry.get("reaction.count.reconciled")
+                                                                  .counter()
+                                                                  .count()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("틀어진 대상이 없으면 아무것도 고치지 않는다.")
+        void reconcile_nothing_drifted() {
+            // given
+            ReactionCountAggregate correct = new ReactionCountAggregate(1L, 1, 1, 1, 1);
+            doReturn(List.of(correct)).when(reactionCountRepository).findAggregatesAfter(ReactionTarget.POST, 0L, 2);
+            doReturn(Map.of()).when(reactionCountBuffer).pending(ReactionTarget.POST, List.of(1L));
+
+            // when
+            reconciler.reconcile();
+
+            // then
+            verify(reactionCountRepository, never()).updateCounts(any(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("ReactionCountAggregate 는")
+    class Aggregate {
+
+        @Test
+        @DisplayName("아직 flush 되지 않은 증감을 빼고 틀어졌는지 판단한다.")
+        void minus_pending() {
+            ReactionCountAggregate aggregate = new ReactionCountAggregate(1L, 3, 0, 4, 1);
+
+            assertSoftly(softly -> {
+                softly.assertThat(aggregate.isDrifted()).isTrue();
+                softly.assertThat(aggregate.minusPending(new ReactionChange(1, 1)).isDrifted()).isFalse();
+            });
+        }
+    }
+}
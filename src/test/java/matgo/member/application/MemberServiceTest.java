@@ -167,9 +167,10 @@ class MemberServiceTest extends BaseServiceTest {
                                       .uploadAndGetImageURL(any(MultipartFile.class), eq(S3Directory.MEMBER));
 
             // when
-            memberService.updateMember(member.getId(), memberUpdateRequest, newProfileImage);
+            boolean regionChanged = memberService.updateMember(member.getId(), memberUpdateRequest, newProfileImage);
 
             // then
+            assertThat(regionChanged).isTrue();
             assertThat(member.getNickname()).isEqualTo(memberUpdateRequest.nickname());
             assertThat(member.getRegion().getName()).isEqualTo(memberUpdateRequest.region());
             assertThat(member.getProfileImage()).isEqualTo("new_mocked_url");
@@ -201,9 +202,10 @@ class MemberServiceTest extends BaseServiceTest {
             doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
 
             // when
-            memberService.updateMember(member.getId(), nullRequest, null);
+            boolean regionChanged = memberService.updateMember(member.getId(), nullRequest, null);
 
             // then
+            assertThat(regionChanged).isFalse();
             assertThat(member.getNickname()).isEqualTo("testnick");
             assertThat(member.getRegion().getName()).isEqualTo("효자동");
             assertThat(member.getProfileImage()).isEqualTo(
@@ -16,6 +16,8 @@ import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import matgo.common.BaseControllerTest;
 import matgo.global.type.S3Directory;
+import matgo.member.domain.entity.Region;
+import matgo.member.dto.request.MemberUpdateRequest;
 import matgo.member.dto.request.ResetPasswordRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -76,6 +78,37 @@ class MemberControllerTest extends BaseControllerTest {
         assertThat(response.statusCode()).isEqualTo(204);
     }
 
+    @Test
+    @DisplayName("[성공]회원 정보 수정 - 지역이 바뀌면 새 토큰을 내려준다")
+    void updateMember_region_changed() {
+        // given
+        regionRepository.save(new Region("중노송동"));
+        MultiPartSpecBuilder request = new MultiPartSpecBuilder(new MemberUpdateRequest(null, "중노송동"));
+        request.charset("UTF-8");
+        request.controlName("memberUpdateRequest");
+        request.mimeType("application/json");
+
+        // when
+        Response response = customGiven()
+          .contentType("multipart/form-data;charset=UTF-8")
+          .header("Authorization", "Bearer " + accessToken)
+          .multiPart(request.build())
+          .accept(ContentType.JSON)
+          .put("/api/member");
+        String reissued = response.header("Authorization");
+        Response memberResponse = customGiven()
+          .header("Authorization", reissued)
+          .accept(ContentType.JSON)
+          .get("/api/member");
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(204);
+            softly.assertThat(reissued).startsWith("Bearer ").isNotEqualTo("Bearer " + accessToken);
+            softly.assertThat(memberResponse.statusCode()).isEqualTo(200);
+        });
+    }
+
     @Test
     @DisplayName("[성공]비밀번호 초기화(변경)")
     void restPassword() {
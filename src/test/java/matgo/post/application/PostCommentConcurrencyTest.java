@@ -0,0 +1,158 @@
+package matgo.post.application;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import matgo.common.BaseControllerTest;
+import matgo.post.domain.entity.Post;
+import matgo.post.domain.entity.PostComment;
+import matgo.post.dto.request.PostCommentCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+class PostCommentConcurrencyTest extends BaseControllerTest {
+
+    private static final int POST_COUNT = 20;
+    private static final int COMMENTS_PER_POST = 50;
+    private static final int WARM_UP_COMMENTS = 200;
+
+    @Autowired
+    private PostCommentService postCommentService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("여러 게시글에 1,000 개의 댓글을 동시에 작성해도 게시글마다 댓글 수가 정확하다.")
+    void createComment_concurrency() throws InterruptedException {
+        // given
+        List<Post> posts = postRepository.saveAll(IntStream.range(0, POST_COUNT)
+                                                           .mapToObj(this::post)
+                                                           .toList());
+
+        // when
+        int failures = runConcurrently(POST_COUNT * COMMENTS_PER_POST, i -> {
+            Long postId = posts.get(i % POST_COUNT).getId();
+            postCommentService.createComment(member.getId(), postId, new PostCommentCreateRequest("댓글" + i));
+        });
+
+        // then
+        List<Post> results = postRepository.findAllById(posts.stream().map(Post::getId).toList());
+        assertSoftly(softly -> {
+            softly.assertThat(failures).isZero();
+            softly.assertThat(postCommentRepository.count()).isEqualTo(POST_COUNT * COMMENTS_PER_POST);
+            results.forEach(post -> softly.assertThat(post.getCommentCount()).isEqualTo(COMMENTS_PER_POST));
+        });
+    }
+
+    @Test
+    @DisplayName("한 게시글에 몰린 댓글과 여러 게시글에 흩어진 댓글을 동시에 작성하는 데 걸린 시간을 남긴다.")
+    void createComment_same_post_and_spread_elapsed() throws InterruptedException {
+        // given
+        int total = POST_COUNT * COMMENTS_PER_POST;
+        Post warmUpPost = postRepository.save(post(POST_COUNT));
+        Post samePost = postRepository.save(post(POST_COUNT + 1));
+        List<Post> posts = postRepository.saveAll(IntStream.range(0, POST_COUNT)
+                                                           .mapToObj(this::post)
+                                                           .toList());
+        runConcurrently(WARM_UP_COMMENTS, i -> postCommentService.createComment(member.getId(), warmUpPost.getId(),
+          new PostCommentCreateRequest("댓글" + i)));
+
+        // when
+        long samePostStartedAt = System.nanoTime();
+        int samePostFailures = runConcurrently(total, i -> postCommentService.createComment(member.getId(),
+          samePost.getId(), new PostCommentCreateRequest("댓글" + i)));
+        Duration samePostElapsed = Duration.ofNanos(System.nanoTime() - samePostStartedAt);
+
+        long spreadStartedAt = System.nanoTime();
+        int spreadFailures = runConcurrently(total, i -> postCommentService.createComment(member.getId(),
+          posts.get(i % POST_COUNT).getId(), new PostCommentCreateRequest("댓글" + i)));
+        Duration spreadElapsed = Duration.ofNanos(System.nanoTime() - spreadStartedAt);
+
+        // then
+        // 처리 시간은 환경마다 달라서 검증하지 않고 남기기만 한다. (락을 쓰는 방식과 비교할 때 같은 테스트로 잰다)
+        log.info("createComment {} comments - same post: {} ms ({} comments/s), {} posts: {} ms ({} comments/s)",
+          total, samePostElapsed.toMillis(), total * 1000L / Math.max(1, samePostElapsed.toMillis()),
+          POST_COUNT, spreadElapsed.toMillis(), total * 1000L / Math.max(1, spreadElapsed.toMillis()));
+        Post samePostResult = postRepository.findById(samePost.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(samePostFailures).isZero();
+            softly.assertThat(spreadFailures).isZero();
+            softly.assertThat(samePostResult.getCommentCount()).isEqualTo(total);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 댓글을 동시에 여러 번 삭제해도 댓글 수는 한 번만 줄어든다.")
+    void deleteComment_concurrency() throws InterruptedException {
+        // given
+        Post post = postRepository.save(post(0));
+        postCommentService.createComment(member.getId(), post.getId(), new PostCommentCreateRequest("댓글"));
+        postCommentService.createComment(member.getId(), post.getId(), new PostCommentCreateRequest("댓글"));
+        Long commentId = postCommentRepository.findAll()
+                                              .stream()
+                                              .map(PostComment::getId)
+                                              .findFirst()
+                                              .orElseThrow();
+
+        // when
+        runConcurrently(10, i -> postCommentService.deleteComment(member.getId(), commentId));
+
+        // then
+        // soft delete 된 댓글은 남아 있으므로 삭제되지 않은 댓글만 센다.
+        Long remaining = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM post_comment WHERE post_id = ? AND deleted_at IS NULL", Long.class, post.getId());
+        Post result = postRepository.findById(post.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(remaining).isEqualTo(1);
+            softly.assertThat(result.getCommentCount()).isEqualTo(1);
+        });
+    }
+
+    private int runConcurrently(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.execute(() -> {
+                try {
+                    task.run(index);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        return failures.get();
+    }
+
+    private Post post(int index) {
+        return Post.builder()
+                   .title("title" + index)
+                   .content("content")
+                   .member(member)
+                   .region(region)
+                   .likeCount(0)
+                   .dislikeCount(0)
+                   .build();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+
+        void run(int index);
+    }
+}
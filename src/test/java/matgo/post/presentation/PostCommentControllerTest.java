@@ -3,6 +3,7 @@ package matgo.post.presentation;
 import static matgo.post.presentation.PostCommentDocument.createCommentDocument;
 import static matgo.post.presentation.PostCommentDocument.deleteCommentDocument;
 import static matgo.post.presentation.PostCommentDocument.getMyPostCommentDocument;
+import static matgo.post.presentation.PostCommentDocument.getPostCommentsDocument;
 import static matgo.post.presentation.PostCommentDocument.updateCommentDocument;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -10,6 +11,7 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import io.restassured.response.Response;
 import java.util.Optional;
 import matgo.common.BaseControllerTest;
+import matgo.member.domain.entity.Region;
 import matgo.post.domain.entity.Post;
 import matgo.post.domain.entity.PostComment;
 import matgo.post.dto.request.PostCommentCreateRequest;
@@ -128,4 +130,69 @@ class PostCommentControllerTest extends BaseControllerTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("게시글 댓글 조회")
+    void getPostComments() {
+        // given
+        Long postId = post.getId();
+
+        // when
+        Response response = customGivenWithDocs(getPostCommentsDocument())
+          .contentType("application/json")
+          .header("Authorization", "Bearer " + accessToken)
+          .queryParam("page", 0)
+          .queryParam("size", 20)
+          .accept("application/json")
+          .get("/api/comments/{postId}", postId);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            PostCommentSliceResponse postCommentSliceResponse = response.as(PostCommentSliceResponse.class);
+            softly.assertThat(postCommentSliceResponse.comments().size()).isEqualTo(1);
+            softly.assertThat(postCommentSliceResponse.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 조회 - 다른 지역 게시글이면 404")
+    void getPostComments_other_region() {
+        // given
+        Post otherRegionPost = postRepository.save(Post.builder()
+                                                       .title("title")
+                                                       .content("content")
+                                                       .member(member)
+                                                       .region(regionRepository.save(new Region("다른동")))
+                                                       .likeCount(0)
+                                                       .dislikeCount(0)
+                                                       .build());
+
+        // when
+        Response response = customGiven()
+          .contentType("application/json")
+          .header("Authorization", "Bearer " + accessToken)
+          .queryParam("page", 0)
+          .queryParam("size", 20)
+          .accept("application/json")
+          .get("/api/comments/{postId}", otherRegionPost.getId());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 조회 - 페이지 크기가 1보다 작으면 400")
+    void getPostComments_invalid_size() {
+        // when
+        Response response = customGiven()
+          .contentType("application/json")
+          .header("Authorization", "Bearer " + accessToken)
+          .queryParam("page", 0)
+          .queryParam("size", 0)
+          .accept("application/json")
+          .get("/api/comments/{postId}", post.getId());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(400);
+    }
+}
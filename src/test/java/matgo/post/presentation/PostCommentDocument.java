@@ -46,10 +46,25 @@ public class PostCommentDocument {
         );
     }
 
+    public static RestDocumentationFilter getPostCommentsDocument() {
+        return document("게시글 댓글 조회(커서 페이징)",
+          resourceDetails().tag("PostComment").description("게시글 댓글 조회 (작성 순서)"),
+          pathParameters(
+            RequestDocumentation.parameterWithName("postId").description("게시글 아이디")
+          ),
+          queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (게시글 상세의 postComments.nextCursor)").optional(),
+            parameterWithName("page").description("페이지 번호 (커서로 이어서 조회하므로 사용하지 않는다)"),
+            parameterWithName("size").description("페이지 크기")
+          )
+        );
+    }
+
     public static RestDocumentationFilter getMyPostCommentDocument() {
         return document("댓글 조회(페이징)",
           resourceDetails().tag("PostComment").description("내가 작성한 댓글 조회"),
           queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),
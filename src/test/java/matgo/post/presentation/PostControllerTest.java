@@ -3,6 +3,7 @@ package matgo.post.presentation;
 import static matgo.post.presentation.PostDocument.addPostReactionDocument;
 import static matgo.post.presentation.PostDocument.createPostDocument;
 import static matgo.post.presentation.PostDocument.deletePostDocument;
+import static matgo.post.presentation.PostDocument.getMyPostReactionDocument;
 import static matgo.post.presentation.PostDocument.getPostDetailDocument;
 import static matgo.post.presentation.PostDocument.getPostsDocument;
 import static matgo.post.presentation.PostDocument.updatePostDocument;
@@ -19,6 +20,7 @@ import matgo.common.BaseControllerTest;
 import matgo.global.type.Reaction;
 import matgo.global.type.S3Directory;
 import matgo.post.domain.entity.Post;
+import matgo.post.domain.entity.PostComment;
 import matgo.post.dto.response.MyPostSliceResponse;
 import matgo.post.dto.response.PostDetailResponse;
 import matgo.post.dto.response.PostSliceResponse;
@@ -122,6 +124,11 @@ class PostControllerTest extends BaseControllerTest {
     void getPostDetail() {
         // given
         Long postId = 1L;
+        postCommentRepository.save(PostComment.builder()
+                                              .content("comment")
+                                              .post(post)
+                                              .member(member)
+                                              .build());
 
         // when
         Response response = customGivenWithDocs(getPostDetailDocument())
@@ -138,6 +145,8 @@ class PostControllerTest extends BaseControllerTest {
             softly.assertThat(postDetailResponse.post().id()).isEqualTo(postId);
             softly.assertThat(postDetailResponse.post().title()).isEqualTo(post.getTitle());
             softly.assertThat(postDetailResponse.member().id()).isEqualTo(member.getId());
+            softly.assertThat(postDetailResponse.postComments().comments()).hasSize(1);
+            softly.assertThat(postDetailResponse.postComments().hasNext()).isFalse();
         });
     }
 
@@ -187,6 +196,30 @@ class PostControllerTest extends BaseControllerTest {
         assertSoftly(softly -> softly.assertThat(response.statusCode()).isEqualTo(204));
     }
 
+    @Test
+    @DisplayName("[성공]게시글 내 좋아요/싫어요 조회")
+    void getMyPostReaction() {
+        // given
+        Long postId = 1L;
+        customGiven().header("Authorization", "Bearer " + accessToken)
+                     .queryParam("reactionType", Reaction.LIKE)
+                     .post("/api/posts/{postId}/reactions", postId);
+
+        // when
+        Response response = customGivenWithDocs(getMyPostReactionDocument())
+          .contentType(ContentType.JSON)
+          .header("Authorization", "Bearer " + accessToken)
+          .pathParam("postId", postId)
+          .accept(ContentType.JSON)
+          .get("/api/posts/{postId}/reactions/me", postId);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.jsonPath().getString("reaction")).isEqualTo(Reaction.LIKE.name());
+        });
+    }
+
     @Test
     @DisplayName("[성공]내가 작성한 게시글 조회")
     void getMyPosts() {
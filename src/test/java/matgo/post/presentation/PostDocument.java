@@ -58,9 +58,12 @@ public class PostDocument {
 
     public static RestDocumentationFilter getPostDetailDocument() {
         return document("게시글 상세 조회",
-          resourceDetails().tag("Post").description("게시글 상세 조회"),
+          resourceDetails().tag("Post").description("게시글 상세 조회 (댓글은 작성 순서대로 20개씩)"),
           pathParameters(
             parameterWithName("postId").description("게시글 아이디")
+          ),
+          queryParameters(
+            parameterWithName("commentCursor").description("다음 댓글 페이지 커서 (없으면 첫 페이지)").optional()
           )
         );
     }
@@ -69,6 +72,7 @@ public class PostDocument {
         return document("게시글 조회(페이징)",
           resourceDetails().tag("Post").description("게시글 조회(페이징)"),
           queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),
@@ -88,4 +92,13 @@ public class PostDocument {
           )
         );
     }
+
+    public static RestDocumentationFilter getMyPostReactionDocument() {
+        return document("게시글 내 좋아요/싫어요 조회",
+          resourceDetails().tag("Post").description("게시글에 남긴 내 좋아요/싫어요 조회 (없으면 null)"),
+          pathParameters(
+            parameterWithName("postId").description("게시글 아이디")
+          )
+        );
+    }
 }
@@ -0,0 +1,126 @@
+package matgo.restaurant.application;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import matgo.common.BaseServiceTest;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.repository.RestaurantBulkRepository;
+import matgo.restaurant.domain.repository.RestaurantContentHash;
+import matgo.restaurant.feignclient.dto.RestaurantData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+class RestaurantChunkWriterTest extends BaseServiceTest {
+
+    @InjectMocks
+    private RestaurantChunkWriter restaurantChunkWriter;
+    @Mock
+    private RestaurantBulkRepository restaurantBulkRepository;
+
+    private static RestaurantContentHash contentHash(String externalId, String contentHash) {
+        return new RestaurantContentHash() {
+            @Override
+            public String getExternalId() {
+                return externalId;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("write 메서드는")
+    class Write {
+
+        RestaurantData restaurantData1 = new RestaurantData("1", "name", "roadAddress", "address", "phoneNumber", 1.0,
+          1.0, "description");
+        RestaurantData restaurantData2 = new RestaurantData("2", "name", "roadAddress", "address", "phoneNumber", 1.0,
+          1.0, "description");
+        RestaurantData restaurantData3 = new RestaurantData("3", "name", "roadAddress", "address", "phoneNumber", 1.0,
+          1.0, "description");
+        List<Restaurant> restaurants = List.of(
+          Restaurant.fromRestaurantData(restaurantData1),
+          Restaurant.fromRestaurantData(restaurantData2),
+          Restaurant.fromRestaurantData(restaurantData3)
+        );
+
+        @Test
+        @DisplayName("새로운 식당과 내용이 바뀐 식당만 upsert 하고 outbox 에 남긴 뒤, 건수를 반환한다.")
+        void write_success() {
+            // given
+            doReturn(List.of(
+              contentHash("2", restaurantData2.contentHash()),
+              contentHash("3", "changed")
+            )).when(restaurantRepository).findContentHashesByExternalIdIn(anyList());
+
+            // when
+            RestaurantChunkResult result = restaurantChunkWriter.write(restaurants);
+
+            // then
+            verify(restaurantBulkRepository, times(1)).upsertAll(List.of(restaurants.get(0), restaurants.get(2)));
+            verify(restaurantBulkRepository, times(1)).appendSearchOutbox(List.of("1", "3"));
+            assertSoftly(softly -> {
+                softly.assertThat(result.inserted()).isEqualTo(1);
+                softly.assertThat(result.updated()).isEqualTo(1);
+                softly.assertThat(result.unchanged()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("content hash 가 없는 기존 식당은 변경된 것으로 취급한다.")
+        void write_existing_without_hash() {
+            // given
+            doReturn(List.of(contentHash("1", null))).when(restaurantRepository)
+                                                     .findContentHashesByExternalIdIn(anyList());
+
+            // when
+            RestaurantChunkResult result = restaurantChunkWriter.write(List.of(restaurants.get(0)));
+
+            // then
+            verify(restaurantBulkRepository, times(1)).upsertAll(List.of(restaurants.get(0)));
+            assertSoftly(softly -> {
+                softly.assertThat(result.inserted()).isZero();
+                softly.assertThat(result.updated()).isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("빈 chunk 는 저장하지 않는다.")
+        void write_empty_chunk() {
+            // when
+            RestaurantChunkResult result = restaurantChunkWriter.write(List.of());
+
+            // then
+            assertSoftly(softly -> softly.assertThat(result.rows()).isZero());
+            verify(restaurantBulkRepository, never()).upsertAll(anyList());
+        }
+
+        @Test
+        @DisplayName("모든 식당이 그대로면 아무것도 저장하지 않는다.")
+        void write_all_unchanged() {
+            // given
+            doReturn(List.of(contentHash("1", restaurantData1.contentHash()))).when(restaurantRepository)
+                                                                           .findContentHashesByExternalIdIn(anyList());
+
+            // when
+            RestaurantChunkResult result = restaurantChunkWriter.write(List.of(restaurants.get(0)));
+
+            // then
+            assertSoftly(softly -> softly.assertThat(result.unchanged()).isEqualTo(1));
+            verify(restaurantBulkRepository, never()).upsertAll(anyList());
+            verify(restaurantBulkRepository, never()).appendSearchOutbox(anyList());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package matgo.restaurant.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import matgo.common.BaseServiceTest;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.feignclient.JeonjuRestaurantClient;
+import matgo.restaurant.feignclient.StubJeonjuRestaurantClient;
+import matgo.restaurant.feignclient.dto.RestaurantDataResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+class RestaurantIngestionPipelineTest extends BaseServiceTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    @Mock
+    private RestaurantChunkWriter restaurantChunkWriter;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("run 메서드는")
+    class Run {
+
+        @Test
+        @DisplayName("모든 페이지를 가져와 페이지 순서대로 chunk 단위로 저장한다.")
+        void run_success() {
+            // given
+            StubJeonjuRestaurantClient client = new StubJeonjuRestaurantClient(950);
+            RestaurantIngestionPipeline pipeline = new RestaurantIngestionPipeline(client, restaurantChunkWriter,
+              executor, "key", 100, 3);
+            doAnswer(invocation -> new RestaurantChunkResult(invocation.<List<Restaurant>>getArgument(0).size(), 0, 0))
+              .when(restaurantChunkWriter).write(anyList());
+
+            // when
+            RestaurantIngestionResult result = pipeline.run();
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Restaurant>> captor = ArgumentCaptor.forClass(List.class);
+            verify(restaurantChunkWriter, times(10)).write(captor.capture());
+            List<String> firstExternalIds = captor.getAllValues()
+                                                  .stream()
+                                                  .map(chunk -> chunk.get(0).getExternalId())
+                                                  .toList();
+            assertSoftly(softly -> {
+                softly.assertThat(result.pages()).isEqualTo(10);
+                softly.assertThat(result.rows()).isEqualTo(950);
+                softly.assertThat(result.inserted()).isEqualTo(950);
+                softly.assertThat(client.getRequestedPages()).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+                softly.assertThat(firstExternalIds)
+                      .containsExactly("1", "101", "201", "301", "401", "501", "601", "701", "801", "901");
+            });
+        }
+
+        @Test
+        @DisplayName("데이터가 한 페이지보다 적으면 첫 페이지만 저장한다.")
+        void run_single_page() {
+            // given
+            StubJeonjuRestaurantClient client = new StubJeonjuRestaurantClient(2);
+            RestaurantIngestionPipeline pipeline = new RestaurantIngestionPipeline(client, restaurantChunkWriter,
+              executor, "key", 100, 3);
+            doReturn(new RestaurantChunkResult(1, 0, 1)).when(restaurantChunkWriter).write(anyList());
+
+            // when
+            RestaurantIngestionResult result = pipeline.run();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(result.pages()).isEqualTo(1);
+                softly.assertThat(result.rows()).isEqualTo(2);
+                softly.assertThat(result.inserted()).isEqualTo(1);
+                softly.assertThat(result.unchanged()).isEqualTo(1);
+                softly.assertThat(client.getRequestedPages()).containsExactly(1);
+            });
+        }
+
+        @Test
+        @DisplayName("페이지 조회에 실패하면 예외를 그대로 던진다.")
+        void run_fail_when_fetch_fail() {
+            // given
+            JeonjuRestaurantClient client = mock(JeonjuRestaurantClient.class);
+            RestaurantDataResponse firstPage = new StubJeonjuRestaurantClient(300).getRestaurants(1, 100, "key");
+            doAnswer(invocation -> {
+                throw new IllegalStateException("fetch fail");
+            }).when(client).getRestaurants(anyInt(), anyInt(), anyString());
+            doReturn(firstPage).when(client).getRestaurants(1, 100, "key");
+            doReturn(RestaurantChunkResult.EMPTY).when(restaurantChunkWriter).write(anyList());
+            RestaurantIngestionPipeline pipeline = new RestaurantIngestionPipeline(client, restaurantChunkWriter,
+              executor, "key", 100, 3);
+
+            // when & then
+            assertThatThrownBy(pipeline::run)
+              .isInstanceOf(IllegalStateException.class)
+              .hasMessageContaining("fetch fail");
+        }
+    }
+}
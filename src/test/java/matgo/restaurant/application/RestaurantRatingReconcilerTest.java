@@ -0,0 +1,134 @@
+package matgo.restaurant.application;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import matgo.common.BaseServiceTest;
+import matgo.restaurant.domain.repository.RestaurantRatingAggregate;
+import matgo.restaurant.domain.repository.RestaurantRatingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class RestaurantRatingReconcilerTest extends BaseServiceTest {
+
+    @Mock
+    private RestaurantRatingRepository restaurantRatingRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RestaurantRatingReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new RestaurantRatingReconciler(restaurantRatingRepository, restaurantSearchOutboxRepository,
+          transactionTemplate, meterRegistry, 2);
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                 .when(transactionTemplate).execute(any());
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드는")
+    class Reconcile {
+
+        @Test
+        @DisplayName("batch 단위로 식당을 읽고, 집계가 틀어진 식당만 고친 뒤 outbox 에 남긴다.")
+        void reconcile_success() {
+            // given
+            RestaurantRatingAggregate correct = new RestaurantRatingAggregate(1L, 9, 2, 9, 2);
+            RestaurantRatingAggregate drifted = new RestaurantRatingAggregate(2L, 0, 3, 13, 3);
+            RestaurantRatingAggregate last = new RestaurantRatingAggregate(3L, 5, 1, 0, 0);
+            doReturn(List.of(correct, drifted)).when(restaurantRatingRepository).findAggregatesAfter(0L, 2);
+            doReturn(List.of(last)).when(restaurantRatingRepository).findAggregatesAfter(2L, 2);
+            doReturn(List.of(2L)).when(restaurantRatingRepository).updateAggregates(List.of(drifted));
+            doReturn(List.of(3L)).when(restaurantRatingRepository).updateAggregates(List.of(last));
+
+            // when
+            reconciler.reconcile();
+
+            // then
+            verify(restaurantSearchOutboxRepository, times(2)).saveAll(anyList());
+            assertSoftly(softly -> softly.assertThat(meterRegistry.get("restaurant.rating.reconciled")
+                                                                  .counter()
+                                                                  .count()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("틀어진 식당이 없으면 아무것도 고치지 않는다.")
+        void reconcile_nothing_drifted() {
+            // given
+            doReturn(List.of(new RestaurantRatingAggregate(1L, 5, 1, 5, 1))).when(restaurantRatingRepository)
+                                                                           .findAggregatesAfter(0L, 2);
+
+            // when
+            reconciler.reconcile();
+
+            // then
+            verify(restaurantRatingRepository, never()).updateAggregates(anyList());
+            verify(restaurantSearchOutboxRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("afterSingletonsInstantiated 메서드는")
+    class AfterSingletonsInstantiated {
+
+        @Test
+        @DisplayName("rating_sum 이 비어 있는 식당이 있으면 요청을 받기 전에 다시 맞춘다.")
+        void backfill() {
+            // given
+            RestaurantRatingAggregate missing = new RestaurantRatingAggregate(1L, 0, 2, 9, 2);
+            doReturn(true).when(restaurantRatingRepository).existsMissingRatingSum();
+            doReturn(List.of(missing)).when(restaurantRatingRepository).findAggregatesAfter(0L, 2);
+            doReturn(List.of(1L)).when(restaurantRatingRepository).updateAggregates(List.of(missing));
+
+            // when
+            reconciler.afterSingletonsInstantiated();
+
+            // then
+            verify(restaurantRatingRepository, times(1)).updateAggregates(List.of(missing));
+        }
+
+        @Test
+        @DisplayName("이미 채워져 있으면 식당을 읽지 않는다.")
+        void backfill_not_needed() {
+            // given
+            doReturn(false).when(restaurantRatingRepository).existsMissingRatingSum();
+
+            // when
+            reconciler.afterSingletonsInstantiated();
+
+            // then
+            verify(restaurantRatingRepository, never()).findAggregatesAfter(anyLong(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("RestaurantRatingAggregate 는")
+    class Aggregate {
+
+        @Test
+        @DisplayName("review 테이블 기준 평균을 소수 둘째 자리까지 계산한다.")
+        void actual_rating() {
+            assertSoftly(softly -> {
+                softly.assertThat(new RestaurantRatingAggregate(1L, 0, 0, 13, 3).actualRating()).isEqualTo(4.33);
+                softly.assertThat(new RestaurantRatingAggregate(1L, 5, 1, 0, 0).actualRating()).isEqualTo(0.0);
+            });
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package matgo.restaurant.application;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import matgo.common.BaseServiceTest;
+import matgo.restaurant.domain.repository.RestaurantRating;
+import matgo.restaurant.domain.repository.RestaurantRatingUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RestaurantRatingWriteBehindBufferTest extends BaseServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestaurantRatingWriteBehindBuffer buffer;
+
+    private static RestaurantRating rating(Long id, double rating, int reviewCount) {
+        return new RestaurantRating() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getRating() {
+                return rating;
+            }
+
+            @Override
+            public Integer getReviewCount() {
+                return reviewCount;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new RestaurantRatingWriteBehindBuffer(restaurantRepository, restaurantSearchRepositoryImpl,
+          meterRegistry, 3);
+    }
+
+    @Nested
+    @DisplayName("add 메서드는")
+    class Add {
+
+        @Test
+        @DisplayName("같은 식당은 한 번만 남긴다.")
+        void add_coalesce() {
+            // when
+            buffer.add(1L);
+            buffer.add(1L);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(buffer.size()).isEqualTo(1);
+                softly.assertThat(meterRegistry.get("restaurant.search.rating.buffer.size").gauge().value())
+                      .isEqualTo(1);
+            });
+            verify(restaurantSearchRepositoryImpl, never()).updateRatingAndReviewCount(anyCollection());
+        }
+
+        @Test
+        @DisplayName("최대 크기에 도달하면 bulk 로 flush 한다.")
+        void add_flush_on_max_size() {
+            // given
+            doReturn(List.of(rating(1L, 4.0, 1), rating(2L, 4.0, 1), rating(3L, 4.0, 1)))
+              .when(restaurantRepository).findApprovedRatingsByIdIn(anyCollection());
+
+            // when
+            buffer.add(1L);
+            buffer.add(2L);
+            buffer.add(3L);
+
+            // then
+            verify(restaurantSearchRepositoryImpl).updateRatingAndReviewCount(List.of(
+              new RestaurantRatingUpdate("1", 4.0, 1),
+              new RestaurantRatingUpdate("2", 4.0, 1),
+              new RestaurantRatingUpdate("3", 4.0, 1)
+            ));
+            assertSoftly(softly -> softly.assertThat(buffer.size()).isZero());
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    class Flush {
+
+        @Test
+        @DisplayName("flush 하는 시점의 DB 값을 읽어 한 번의 bulk 요청으로 보내고 걸린 시간을 기록한다.")
+        void flush_success() {
+            // given
+            buffer.add(1L);
+            doReturn(List.of(rating(1L, 5.0, 2))).when(restaurantRepository).findApprovedRatingsByIdIn(List.of(1L));
+
+            // when
+            buffer.flush();
+
+            // then
+            verify(restaurantSearchRepositoryImpl).updateRatingAndReviewCount(
+              List.of(new RestaurantRatingUpdate("1", 5.0, 2)));
+            assertSoftly(softly -> {
+                softly.assertThat(buffer.size()).isZero();
+                softly.assertThat(meterRegistry.timer("restaurant.search.rating.buffer.flush").count())
+                      .isEqualTo(1);
+            });
+        }
+
+        @Test
+        @DisplayName("비어있으면 요청하지 않는다.")
+        void flush_empty() {
+            // when
+            buffer.flush();
+
+            // then
+            verify(restaurantSearchRepositoryImpl, never()).updateRatingAndReviewCount(anyCollection());
+        }
+
+        @Test
+        @DisplayName("승인된 식당이 없으면 elasticsearch 에 요청하지 않는다.")
+        void flush_not_approved() {
+            // given
+            buffer.add(1L);
+            doReturn(List.of()).when(restaurantRepository).findApprovedRatingsByIdIn(List.of(1L));
+
+            // when
+            buffer.flush();
+
+            // then
+            verify(restaurantSearchRepositoryImpl, never()).updateRatingAndReviewCount(anyCollection());
+        }
+
+        @Test
+        @DisplayName("elasticsearch 반영에 실패하면 다시 보낼 수 있도록 buffer 에 남긴다.")
+        void flush_fail() {
+            // given
+            buffer.add(1L);
+            doReturn(List.of(rating(1L, 4.0, 1))).when(restaurantRepository).findApprovedRatingsByIdIn(List.of(1L));
+            doThrow(new IllegalStateException("es down")).when(restaurantSearchRepositoryImpl)
+                                                         .updateRatingAndReviewCount(anyCollection());
+
+            // when
+            buffer.flush();
+
+            // then
+            assertSoftly(softly -> softly.assertThat(buffer.size()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("종료될 때 남아있는 값을 flush 한다.")
+        void flush_on_shutdown() {
+            // given
+            buffer.add(1L);
+            doReturn(List.of(rating(1L, 4.0, 1))).when(restaurantRepository).findApprovedRatingsByIdIn(List.of(1L));
+
+            // when
+            buffer.flushOnShutdown();
+
+            // then
+            verify(restaurantSearchRepositoryImpl).updateRatingAndReviewCount(
+              List.of(new RestaurantRatingUpdate("1", 4.0, 1)));
+        }
+    }
+}
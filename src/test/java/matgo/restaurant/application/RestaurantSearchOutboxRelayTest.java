@@ -0,0 +1,151 @@
+package matgo.restaurant.application;
+
+import static matgo.restaurant.domain.type.RestaurantSearchEventType.INDEX;
+import static matgo.restaurant.domain.type.RestaurantSearchEventType.RATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import matgo.common.BaseServiceTest;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.entity.RestaurantSearch;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import matgo.restaurant.domain.type.RestaurantSearchEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class RestaurantSearchOutboxRelayTest extends BaseServiceTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private RestaurantRatingWriteBehindBuffer restaurantRatingWriteBehindBuffer;
+    @Mock
+    private RestaurantDetailCache restaurantDetailCache;
+    private SimpleMeterRegistry meterRegistry;
+    private RestaurantSearchOutboxRelay relay;
+
+    private static Restaurant restaurant(Long id, LocalDateTime approvedAt) {
+        return Restaurant.builder()
+                         .id(id)
+                         .externalId(String.valueOf(id))
+                         .name("식당" + id)
+                         .roadAddress("도로명 주소")
+                         .address("지번 주소")
+                         .phoneNumber("063-000-0000")
+                         .lat(35.8)
+                         .lon(127.1)
+                         .description("설명")
+                         .approvedAt(approvedAt)
+                         .rating(0.0)
+                         .reviewCount(0)
+                         .build();
+    }
+
+    private static RestaurantSearchOutbox event(Long id, Long restaurantId, RestaurantSearchEventType type) {
+        return new RestaurantSearchOutbox(id, restaurantId, type, LocalDateTime.now().minusSeconds(1));
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new RestaurantSearchOutboxRelay(restaurantSearchOutboxRepository, restaurantRepository,
+          restaurantSearchRepositoryImpl, restaurantRatingWriteBehindBuffer, restaurantDetailCache, transactionTemplate,
+          meterRegistry, 100);
+        doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+          .when(transactionTemplate).execute(any());
+    }
+
+    @Nested
+    @DisplayName("relay 메서드는")
+    class Relay {
+
+        @Test
+        @DisplayName("같은 식당의 이벤트는 한 번만 색인하고, 처리한 outbox 를 삭제한다.")
+        void relay_success() {
+            // given
+            List<RestaurantSearchOutbox> events = List.of(event(1L, 10L, RATING), event(2L, 10L, INDEX), event(3L, 20L, INDEX));
+            doReturn(events).when(restaurantSearchOutboxRepository).findBatchForRelay(any(Pageable.class));
+            doReturn(List.of(restaurant(10L, LocalDateTime.now()), restaurant(20L, null)))
+              .when(restaurantRepository).findAllById(Set.of(10L, 20L));
+
+            // when
+            relay.relay();
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RestaurantSearch>> captor = ArgumentCaptor.forClass(List.class);
+            verify(restaurantSearchRepositoryImpl).bulkInsertOrUpdate(captor.capture());
+            assertThat(captor.getValue()).extracting(RestaurantSearch::getId).containsExactly("10");
+            verify(restaurantSearchOutboxRepository).deleteAllInBatch(events);
+            verify(restaurantDetailCache).evictAll(List.of(10L, 20L));
+            verify(restaurantRatingWriteBehindBuffer, never()).add(any());
+            assertThat(meterRegistry.timer("restaurant.search.outbox.lag").count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("rating 이벤트만 있는 식당은 전체 문서 대신 rating buffer 에 넣는다.")
+        void relay_rating_only() {
+            // given
+            List<RestaurantSearchOutbox> events = List.of(event(1L, 10L, RATING), event(2L, 10L, RATING));
+            doReturn(events).when(restaurantSearchOutboxRepository).findBatchForRelay(any(Pageable.class));
+            doReturn(List.of(restaurant(10L, LocalDateTime.now()))).when(restaurantRepository)
+                                                                   .findAllById(Set.of(10L));
+
+            // when
+            relay.relay();
+
+            // then
+            verify(restaurantRatingWriteBehindBuffer).add(10L);
+            verify(restaurantSearchRepositoryImpl, never()).bulkInsertOrUpdate(anyList());
+            verify(restaurantSearchOutboxRepository).deleteAllInBatch(events);
+        }
+
+        @Test
+        @DisplayName("outbox 가 비어있으면 아무것도 하지 않는다.")
+        void relay_empty() {
+            // given
+            doReturn(List.of()).when(restaurantSearchOutboxRepository).findBatchForRelay(any(Pageable.class));
+
+            // when
+            relay.relay();
+
+            // then
+            verify(restaurantSearchRepositoryImpl, never()).bulkInsertOrUpdate(anyList());
+        }
+
+        @Test
+        @DisplayName("elasticsearch 반영에 실패하면 outbox 를 삭제하지 않는다.")
+        void relay_fail() {
+            // given
+            List<RestaurantSearchOutbox> events = List.of(event(1L, 10L, INDEX));
+            doReturn(events).when(restaurantSearchOutboxRepository).findBatchForRelay(any(Pageable.class));
+            doReturn(List.of(restaurant(10L, LocalDateTime.now()))).when(restaurantRepository)
+                                                                   .findAllById(Set.of(10L));
+            doThrow(new IllegalStateException("es down")).when(restaurantSearchRepositoryImpl)
+                                                         .bulkInsertOrUpdate(anyList());
+
+            // when
+            relay.relay();
+
+            // then
+            verify(restaurantSearchOutboxRepository, never()).deleteAllInBatch(anyList());
+        }
+    }
+}
@@ -7,12 +7,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -20,112 +21,58 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import matgo.common.BaseServiceTest;
+import matgo.global.pagination.CursorSlice;
 import matgo.member.domain.entity.Member;
 import matgo.member.domain.entity.Region;
 import matgo.restaurant.domain.entity.Restaurant;
 import matgo.restaurant.domain.entity.RestaurantSearch;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
+import matgo.restaurant.domain.repository.RestaurantBulkRepository;
+import matgo.restaurant.dto.request.RestaurantLocationRequest;
 import matgo.restaurant.dto.request.RestaurantRequest;
 import matgo.restaurant.dto.response.RestaurantDetailResponse;
 import matgo.restaurant.dto.response.RestaurantsSliceResponse;
 import matgo.restaurant.exception.RestaurantException;
-import matgo.restaurant.feignclient.dto.RestaurantData;
-import matgo.restaurant.feignclient.dto.RestaurantDataResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 class RestaurantServiceTest extends BaseServiceTest {
 
     @InjectMocks
     private RestaurantService restaurantService;
+    @Mock
+    private RestaurantIngestionPipeline restaurantIngestionPipeline;
+    @Mock
+    private RestaurantBulkRepository restaurantBulkRepository;
 
     @Nested
     @DisplayName("fetchAndSaveRestaurants 메서드는")
     class FetchAndSaveRestaurants {
 
-
-        RestaurantData restaurantData1 = new RestaurantData("1", "name", "roadAddress", "address", "phoneNumber", 1.0,
-          1.0, "description");
-        RestaurantData restaurantData2 = new RestaurantData("2", "name", "roadAddress", "address", "phoneNumber", 1.0,
-          1.0, "description");
-        int page = 1;
-        int perPage = 100;
-
         @Test
-        @DisplayName("성공하면 외부 API에서 받아온 데이터를 DB에 save (새로운 데이터)")
-        void fetchAndSaveRestaurants_success_new_data() {
+        @DisplayName("수집 파이프라인을 실행한다.")
+        void fetchAndSaveRestaurants_success() {
             // given
-            List<RestaurantData> restaurantDataList = List.of(restaurantData1, restaurantData2);
-            RestaurantDataResponse response = new RestaurantDataResponse(page, perPage, 2, 0, 2,
-              restaurantDataList);
-
-            doReturn(response).when(jeonjuRestaurantClient).getRestaurants(anyInt(), anyInt(), isNull());
-            doReturn(List.of()).when(restaurantRepository).findByExternalIdIn(anyList());
-
-            // when
-            restaurantService.fetchAndSaveRestaurants();
-
-            // then
-            verify(jeonjuRestaurantClient, times(1)).getRestaurants(anyInt(), anyInt(), isNull());
-            verify(restaurantRepository, times(1)).findByExternalIdIn(anyList());
-            verify(restaurantRepository, times(1)).saveAll(anyList());
-        }
-
-        @Test
-        @DisplayName("성공하면 외부 API에서 받아온 데이터를 DB에 update (기존 데이터)")
-        void fetchAndSaveRestaurants_success_existing_data() {
-            // given
-            List<RestaurantData> restaurantDataList = List.of(restaurantData1, restaurantData2);
-            RestaurantDataResponse response = new RestaurantDataResponse(page, perPage, 2, 0, 2,
-              restaurantDataList);
-
-            doReturn(response).when(jeonjuRestaurantClient).getRestaurants(anyInt(), anyInt(), isNull());
-
-            // 모킹된 Restaurant 객체 생성
-            Restaurant mockRestaurant1 = mock(Restaurant.class);
-            Restaurant mockRestaurant2 = mock(Restaurant.class);
-            doReturn("1").when(mockRestaurant1).getExternalId();
-            doReturn("2").when(mockRestaurant2).getExternalId();
-
-            List<Restaurant> existingRestaurants = List.of(mockRestaurant1, mockRestaurant2);
-            doReturn(existingRestaurants).when(restaurantRepository).findByExternalIdIn(anyList());
+            doReturn(new RestaurantIngestionResult(1, 2, 0, 0, 10)).when(restaurantIngestionPipeline).run();
 
             // when
             restaurantService.fetchAndSaveRestaurants();
 
             // then
-            verify(mockRestaurant1, times(1)).update(any(Restaurant.class));
-            verify(mockRestaurant2, times(1)).update(any(Restaurant.class));
-        }
-    }
-
-    @Nested
-    @DisplayName("indexingToES 메서드는")
-    class IndexingToES {
-
-        Restaurant restaurant1 = mock(Restaurant.class);
-        Restaurant restaurant2 = mock(Restaurant.class);
-
-        @Test
-        @DisplayName("성공하면 1시간 이내에 수정된 식당만 elasticsearch에 저장")
-        void indexingToES_success() {
-            // given
-            List<Restaurant> restaurants = Arrays.asList(restaurant1, restaurant2);
-
-            doReturn(restaurants).when(restaurantRepository)
-                                 .findByModifiedAtAfterAndApprovedAtIsNotNull(any(LocalDateTime.class));
-
-            // when
-            restaurantService.indexingToES();
-
-            // then
-            verify(restaurantSearchRepositoryImpl, times(1)).bulkInsertOrUpdate(anyList());
+            verify(restaurantIngestionPipeline, times(1)).run();
         }
     }
 
@@ -182,6 +129,34 @@ class RestaurantServiceTest extends BaseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getRestaurantsByCursor 메서드는")
+    class GetRestaurantsByCursor {
+
+        RestaurantSearch restaurantSearch1 = new RestaurantSearch("1", "test1", "test1", "test1", "test1", 1.0, 1.0,
+          "test1", 0.0, 0);
+
+        @Test
+        @DisplayName("pageable 의 정렬과 크기로 cursor 다음 페이지를 조회하고 다음 cursor 를 반환한다.")
+        void getRestaurantsByCursor_success() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Direction.DESC, "rating"));
+            CursorSlice<RestaurantSearch> slice = new CursorSlice<>(List.of(restaurantSearch1), true, "next");
+
+            doReturn(slice).when(restaurantSearchRepositoryImpl).findAllByCursor(pageRequest.getSort(), 1, "cursor");
+
+            // when
+            RestaurantsSliceResponse response = restaurantService.getRestaurantsByCursor("cursor", pageRequest);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(response.restaurants()).extracting("id").containsExactly("1");
+                softly.assertThat(response.hasNext()).isTrue();
+                softly.assertThat(response.nextCursor()).isEqualTo("next");
+            });
+        }
+    }
+
     @Nested
     @DisplayName("getRestaurantsByAddress 메서드는")
     class GetRestaurantsByAddress {
@@ -250,7 +225,7 @@ class RestaurantServiceTest extends BaseServiceTest {
                               .build();
 
         @Test
-        @DisplayName("userId로 조회한 region이 es에 저장된 address에 포함되어 있는 경우")
+        @DisplayName("토큰의 region 이 es에 저장된 address에 포함되어 있으면 회원을 조회하지 않고 식당을 반환한다.")
         void getRestaurantsByRegion_matching_keyword() {
             // given
             Long userId = 1L;
@@ -258,14 +233,14 @@ class RestaurantServiceTest extends BaseServiceTest {
             List<RestaurantSearch> restaurantSearches = Arrays.asList(restaurantSearch1, restaurantSearch2);
             Slice<RestaurantSearch> slice = new PageImpl<>(restaurantSearches, pageRequest, restaurantSearches.size());
 
-            doReturn(Optional.of(member)).when(memberRepository).findById(userId);
-            doReturn(slice).when(restaurantSearchRepository)
-                           .findByAddressExactMatch(any(String.class), any(Pageable.class));
+            doReturn(slice).when(restaurantSearchRepository).findByAddressExactMatch("효자동3가", pageRequest);
 
             // when
-            RestaurantsSliceResponse response = restaurantService.getRestaurantsByRegion(userId, pageRequest);
+            RestaurantsSliceResponse response = restaurantService.getRestaurantsByRegion(userId, "효자동3가",
+              pageRequest);
 
             // then
+            verify(memberRepository, never()).findById(any());
             assertSoftly(softly -> {
                 softly.assertThat(response.restaurants().size()).isEqualTo(2);
                 softly.assertThat(response.hasNext()).isFalse();
@@ -273,7 +248,7 @@ class RestaurantServiceTest extends BaseServiceTest {
         }
 
         @Test
-        @DisplayName("userId로 region을 조회하여 addressKeyword로 es에 저장된 address에 포함되어 있지 않은 경우")
+        @DisplayName("토큰에 region 이 없으면 userId로 region을 조회하고, es에 저장된 address에 포함되어 있지 않은 경우")
         void getRestaurantsByRegion_not_matching_keyword() {
             // given
             Long userId = 1L;
@@ -286,7 +261,7 @@ class RestaurantServiceTest extends BaseServiceTest {
                            .findByAddressExactMatch(any(String.class), any(Pageable.class));
 
             // when
-            RestaurantsSliceResponse response = restaurantService.getRestaurantsByRegion(userId, pageRequest);
+            RestaurantsSliceResponse response = restaurantService.getRestaurantsByRegion(userId, null, pageRequest);
 
             // then
             assertSoftly(softly -> {
@@ -296,12 +271,61 @@ class RestaurantServiceTest extends BaseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getRestaurantsByLocation 메서드는")
+    class GetRestaurantsByLocation {
+
+        RestaurantSearch restaurantSearch1 = new RestaurantSearch("1", "test1", "test1", "test1", "test1", 35.8, 127.1,
+          "test1", 4.0, 3);
+        RestaurantSearch restaurantSearch2 = new RestaurantSearch("2", "test2", "test2", "test2", "test2", 35.81, 127.1,
+          "test2", 0.0, 0);
+
+        @Test
+        @DisplayName("좌표 반경 안의 식당을 elasticsearch 가 정렬한 순서대로 반환한다.")
+        void getRestaurantsByLocation_success() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 2);
+            RestaurantLocationRequest locationRequest = new RestaurantLocationRequest(35.8, 127.1, 2000, null);
+            List<RestaurantSearch> restaurantSearches = Arrays.asList(restaurantSearch1, restaurantSearch2);
+            PageImpl<RestaurantSearch> page = new PageImpl<>(restaurantSearches, pageRequest, 3);
+
+            doReturn(page).when(restaurantSearchRepositoryImpl).findByLocation(35.8, 127.1, 2000, false, pageRequest);
+
+            // when
+            RestaurantsSliceResponse response = restaurantService.getRestaurantsByLocation(locationRequest,
+              pageRequest);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(response.restaurants()).extracting("id").containsExactly("1", "2");
+                softly.assertThat(response.hasNext()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("GeoPoint 는 lat, lon 으로 만들어진다.")
+        void restaurantSearch_location() {
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(restaurantSearch1.getLocation().getLat()).isEqualTo(35.8);
+                softly.assertThat(restaurantSearch1.getLocation().getLon()).isEqualTo(127.1);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("getRestaurantDetail 메서드는")
     class GetRestaurantDetail {
 
         Restaurant restaurant = mock(Restaurant.class);
 
+        @BeforeEach
+        void setUp() {
+            // 캐시에 없는 경우처럼 loader 를 그대로 실행한다.
+            lenient().doAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get())
+                     .when(restaurantDetailCache).get(anyLong(), any());
+        }
+
         @Test
         @DisplayName("식당 상세 정보를 반환")
         void getRestaurantDetail() {
@@ -317,6 +341,22 @@ class RestaurantServiceTest extends BaseServiceTest {
             assertThat(response.id()).isEqualTo(1L);
         }
 
+        @Test
+        @DisplayName("캐시에 있으면 DB 를 조회하지 않는다")
+        void getRestaurantDetail_cached() {
+            // given
+            RestaurantDetailResponse cached = new RestaurantDetailResponse(1L, "name", "roadAddress", "address",
+              "phoneNumber", 1.0, 1.0, "description", 4.0, 2);
+            doReturn(cached).when(restaurantDetailCache).get(eq(1L), any());
+
+            // when
+            RestaurantDetailResponse response = restaurantService.getRestaurantDetail(1L);
+
+            // then
+            assertThat(response).isEqualTo(cached);
+            verify(restaurantRepository, never()).findById(any(Long.class));
+        }
+
         @Test
         @DisplayName("식당이 존재하지 않으면 RestaurantException 발생")
         void getRestaurantDetail_fail() {
@@ -369,7 +409,7 @@ class RestaurantServiceTest extends BaseServiceTest {
         Restaurant mockRestaurant = mock(Restaurant.class);
 
         @Test
-        @DisplayName("성공하면 DB와 ES에 저장")
+        @DisplayName("성공하면 DB에 저장하고 ES 동기화 outbox를 남긴다")
         void approveRestaurant() {
             // given
             doReturn(1L).when(mockRestaurant).getId();
@@ -381,7 +421,8 @@ class RestaurantServiceTest extends BaseServiceTest {
 
             // then
             verify(mockRestaurant, times(1)).approve();
-            verify(restaurantSearchRepository, times(1)).save(any(RestaurantSearch.class));
+            verify(restaurantSearchOutboxRepository, times(1)).save(any(RestaurantSearchOutbox.class));
+            verify(restaurantDetailCache, times(1)).evict(1L);
         }
 
         @Test
@@ -409,4 +450,38 @@ class RestaurantServiceTest extends BaseServiceTest {
               .hasMessageContaining(ELREADY_APPROVED_RESTAURANT.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("reindexRestaurants 메서드는")
+    class ReindexRestaurants {
+
+        @Test
+        @DisplayName("승인된 식당을 id 순서로 batch 마다 outbox 에 남기고, 마지막 batch 가 덜 차면 멈춘다.")
+        void reindexRestaurants_success() {
+            // given
+            List<Long> firstBatch = LongStream.rangeClosed(1, 500).boxed().toList();
+            doReturn(firstBatch).when(restaurantBulkRepository).appendIndexOutboxAfter(0L, 500);
+            doReturn(List.of(501L)).when(restaurantBulkRepository).appendIndexOutboxAfter(500L, 500);
+
+            // when
+            int enqueued = restaurantService.reindexRestaurants();
+
+            // then
+            assertThat(enqueued).isEqualTo(501);
+            verify(restaurantBulkRepository, times(2)).appendIndexOutboxAfter(anyLong(), eq(500));
+        }
+
+        @Test
+        @DisplayName("승인된 식당이 없으면 아무것도 남기지 않는다.")
+        void reindexRestaurants_empty() {
+            // given
+            doReturn(List.of()).when(restaurantBulkRepository).appendIndexOutboxAfter(0L, 500);
+
+            // when
+            int enqueued = restaurantService.reindexRestaurants();
+
+            // then
+            assertThat(enqueued).isZero();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package matgo.restaurant.feignclient;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import matgo.restaurant.feignclient.dto.RestaurantData;
+import matgo.restaurant.feignclient.dto.RestaurantDataResponse;
+
+/**
+ * 테스트용 전주시 식당 API stub (externalId 가 1 부터 totalCount 까지인 데이터를 페이지 단위로 반환)
+ */
+public class StubJeonjuRestaurantClient implements JeonjuRestaurantClient {
+
+    private final int totalCount;
+    private final Queue<Integer> requestedPages = new ConcurrentLinkedQueue<>();
+
+    public StubJeonjuRestaurantClient(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    @Override
+    public RestaurantDataResponse getRestaurants(int page, int perPage, String key) {
+        requestedPages.add(page);
+        int from = (page - 1) * perPage + 1;
+        int to = Math.min(page * perPage, totalCount);
+        List<RestaurantData> data = IntStream.rangeClosed(from, to)
+                                             .mapToObj(this::restaurantData)
+                                             .toList();
+        return new RestaurantDataResponse(page, perPage, totalCount, data.size(), totalCount, data);
+    }
+
+    private RestaurantData restaurantData(int externalId) {
+        return new RestaurantData(String.valueOf(externalId), "식당" + externalId, "도로명 주소", "지번 주소",
+          "063-000-0000", 35.8, 127.1, "설명");
+    }
+
+    public List<Integer> getRequestedPages() {
+        return List.copyOf(requestedPages);
+    }
+}
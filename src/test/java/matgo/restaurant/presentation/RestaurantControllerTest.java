@@ -3,12 +3,16 @@ package matgo.restaurant.presentation;
 import static matgo.restaurant.presentation.RestaurantDocument.approveRestaurantDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.getRestaurantDetailDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.getRestaurantsByAddressDocument;
+import static matgo.restaurant.presentation.RestaurantDocument.getRestaurantsByLocationDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.getRestaurantsByRegionDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.getRestaurantsDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.requestNewRestaurantDocument;
 import static matgo.restaurant.presentation.RestaurantDocument.searchRestaurantsDocument;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 
@@ -18,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import matgo.common.BaseControllerTest;
+import matgo.global.pagination.CursorSlice;
 import matgo.restaurant.domain.entity.Restaurant;
 import matgo.restaurant.domain.entity.RestaurantSearch;
 import matgo.restaurant.dto.request.CustomPageRequest;
@@ -28,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
 class RestaurantControllerTest extends BaseControllerTest {
@@ -75,6 +81,31 @@ class RestaurantControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("[성공]전체 식당 목록 조회 (cursor)")
+    void getRestaurants_cursor_success() {
+        // given
+        CursorSlice<RestaurantSearch> slice = new CursorSlice<>(mockSearchResults, true, "nextCursor");
+        doReturn(slice).when(restaurantSearchRepositoryImpl).findAllByCursor(any(Sort.class), anyInt(), anyString());
+
+        // when
+        Response response = customGivenWithDocs(getRestaurantsDocument())
+          .accept(ContentType.JSON)
+          .queryParam("cursor", "")
+          .queryParam("page", customPageRequest.page())
+          .queryParam("size", customPageRequest.size())
+          .queryParam("direction", customPageRequest.direction().get())
+          .queryParam("sortBy", customPageRequest.sortBy().get())
+          .get("/api/restaurants");
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.body().jsonPath().getList("restaurants").size()).isEqualTo(10);
+            softly.assertThat(response.body().jsonPath().getString("nextCursor")).isEqualTo("nextCursor");
+        });
+    }
+
     @Test
     @DisplayName("[성공]주소로 식당 목록 조회")
     void getRestaurantsByAddress_success() {
@@ -124,6 +155,49 @@ class RestaurantControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("[성공]좌표 반경 식당 목록 조회")
+    void getRestaurantsByLocation_success() {
+        // given
+        Page<RestaurantSearch> page = new PageImpl<>(mockSearchResults);
+        doReturn(page).when(restaurantSearchRepositoryImpl)
+                      .findByLocation(anyDouble(), anyDouble(), anyInt(), anyBoolean(), any(Pageable.class));
+
+        // when
+        Response response = customGivenWithDocs(getRestaurantsByLocationDocument())
+          .accept(ContentType.JSON)
+          .queryParam("lat", 35.8)
+          .queryParam("lon", 127.1)
+          .queryParam("radius", 1000)
+          .queryParam("boost", true)
+          .queryParam("page", customPageRequest.page())
+          .queryParam("size", customPageRequest.size())
+          .get("/api/restaurants/location");
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.body().jsonPath().getList("restaurants").size()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("[실패]좌표 반경 식당 목록 조회 - 반경 초과")
+    void getRestaurantsByLocation_fail_radius() {
+        // when
+        Response response = customGiven()
+          .accept(ContentType.JSON)
+          .queryParam("lat", 35.8)
+          .queryParam("lon", 127.1)
+          .queryParam("radius", 50000)
+          .queryParam("page", customPageRequest.page())
+          .queryParam("size", customPageRequest.size())
+          .get("/api/restaurants/location");
+
+        // then
+        assertSoftly(softly -> softly.assertThat(response.statusCode()).isEqualTo(400));
+    }
+
     @Test
     @DisplayName("[성공]식당 상세 조회")
     void getRestaurantDetail_success() {
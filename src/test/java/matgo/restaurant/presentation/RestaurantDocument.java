@@ -26,6 +26,7 @@ public class RestaurantDocument {
         return document("전체 식당 목록 조회",
           resourceDetails().tag("Restaurant").description("식당 목록 조회"),
           queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (빈 값이면 첫 페이지, 없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),
@@ -39,6 +40,7 @@ public class RestaurantDocument {
           resourceDetails().tag("Restaurant").description("주소로 식당 목록 조회"),
           queryParameters(
             parameterWithName("keyword").description("주소 키워드"),
+            parameterWithName("cursor").description("다음 페이지 커서 (빈 값이면 첫 페이지, 없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),
@@ -51,6 +53,7 @@ public class RestaurantDocument {
         return document("주변 식당 목록 조회",
           resourceDetails().tag("Restaurant").description("주변 식당 목록 조회"),
           queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (빈 값이면 첫 페이지, 없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),
@@ -59,6 +62,20 @@ public class RestaurantDocument {
         );
     }
 
+    public static RestDocumentationFilter getRestaurantsByLocationDocument() {
+        return document("좌표 반경 식당 목록 조회",
+          resourceDetails().tag("Restaurant").description("좌표 반경 식당 목록 조회 (거리순)"),
+          queryParameters(
+            parameterWithName("lat").description("위도"),
+            parameterWithName("lon").description("경도"),
+            parameterWithName("radius").description("검색 반경(m, 최대 20000)"),
+            parameterWithName("boost").description("rating, reviewCount 가중치 적용 여부").optional(),
+            parameterWithName("page").description("페이지 번호"),
+            parameterWithName("size").description("페이지 크기")
+          )
+        );
+    }
+
     public static RestDocumentationFilter searchRestaurantsDocument() {
         return document("식당 검색",
           resourceDetails().tag("Restaurant").description("이름으로 식당 검색"),
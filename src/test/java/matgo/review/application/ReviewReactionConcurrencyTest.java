@@ -0,0 +1,173 @@
+package matgo.review.application;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import matgo.common.BaseControllerTest;
+import matgo.global.reaction.ReactionCountBuffer;
+import matgo.global.type.Reaction;
+import matgo.member.domain.entity.Member;
+import matgo.member.domain.type.UserRole;
+import matgo.restaurant.domain.entity.Restaurant;
+import matgo.review.domain.entity.Review;
+import matgo.review.domain.repository.ReviewReactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReviewReactionConcurrencyTest extends BaseControllerTest {
+
+    private static final int TOGGLE_COUNT = 1000;
+    private static final int SAME_MEMBER_TOGGLE_COUNT = 101;
+
+    @Autowired
+    private ReviewReactionRepository reviewReactionRepository;
+    @Autowired
+    private ReactionCountBuffer reactionCountBuffer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("1,000 명이 동시에 반응을 눌러도 좋아요/싫어요 수가 정확하다.")
+    void addReviewReaction_concurrency() throws InterruptedException {
+        // given
+        Review review = saveReview();
+        List<Member> members = memberRepository.saveAll(IntStream.range(0, TOGGLE_COUNT)
+                                                                 .mapToObj(this::reactionMember)
+                                                                 .toList());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(TOGGLE_COUNT);
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < TOGGLE_COUNT; i++) {
+            Long memberId = members.get(i).getId();
+            Reaction reaction = i % 2 == 0 ? Reaction.LIKE : Reaction.DISLIKE;
+            executorService.execute(() -> {
+                try {
+                    reviewService.addReviewReaction(memberId, review.getId(), reaction);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        reactionCountBuffer.flush();
+
+        // then
+        Review result = reviewRepository.findById(review.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(failures.get()).isZero();
+            softly.assertThat(reviewReactionRepository.count()).isEqualTo(TOGGLE_COUNT);
+            softly.assertThat(result.getLikeCount()).isEqualTo(TOGGLE_COUNT / 2);
+            softly.assertThat(result.getDislikeCount()).isEqualTo(TOGGLE_COUNT / 2);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 반응을 다시 누르면 취소되고, 한 번 더 누르면 같은 row 를 되살린다.")
+    void addReviewReaction_toggle_revive() {
+        // given
+        Review review = saveReview();
+
+        // when
+        reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+        reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+        reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.DISLIKE);
+        reactionCountBuffer.flush();
+
+        // then
+        Review result = reviewRepository.findById(review.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(reviewReactionRepository.count()).isEqualTo(1);
+            softly.assertThat(result.getLikeCount()).isZero();
+            softly.assertThat(result.getDislikeCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("한 회원이 같은 반응을 동시에 여러 번 눌러도 row 는 하나이고, 수는 그 row 의 최종 상태와 같다.")
+    void addReviewReaction_same_member_concurrency() throws InterruptedException {
+        // given
+        Review review = saveReview();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(SAME_MEMBER_TOGGLE_COUNT);
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < SAME_MEMBER_TOGGLE_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        reactionCountBuffer.flush();
+
+        // then
+        // 같은 반응만 누르므로 성공한 요청마다 추가/취소가 번갈아 일어난다. (실패한 요청은 아무것도 바꾸지 않는다)
+        List<Boolean> rows = jdbcTemplate.queryForList(
+          "SELECT deleted_at IS NULL FROM review_reaction WHERE review_id = ? AND member_id = ?", Boolean.class,
+          review.getId(), member.getId());
+        boolean liked = (SAME_MEMBER_TOGGLE_COUNT - failures.get()) % 2 == 1;
+        Review result = reviewRepository.findById(review.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(rows).containsExactly(liked);
+            softly.assertThat(result.getLikeCount()).isEqualTo(liked ? 1 : 0);
+            softly.assertThat(result.getDislikeCount()).isZero();
+        });
+    }
+
+    private Review saveReview() {
+        Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                                                                    .externalId("1")
+                                                                    .name("식당")
+                                                                    .roadAddress("서울시 강남구 테헤란로 427")
+                                                                    .address("서울시 강남구 테헤란로 427")
+                                                                    .phoneNumber("010-1234-5678")
+                                                                    .lat(37.123456)
+                                                                    .lon(127.123456)
+                                                                    .description("설명")
+                                                                    .rating(0.0)
+                                                                    .reviewCount(0)
+                                                                    .approvedAt(LocalDateTime.now())
+                                                                    .build());
+        return reviewRepository.save(Review.builder()
+                                           .content("리뷰")
+                                           .rating(5)
+                                           .revisit(true)
+                                           .member(member)
+                                           .restaurant(restaurant)
+                                           .build());
+    }
+
+    private Member reactionMember(int index) {
+        return Member.builder()
+                     .email("reaction" + index + "@naver.com")
+                     .nickname("reaction" + index)
+                     .password(member.getPassword())
+                     .profileImage(member.getProfileImage())
+                     .role(UserRole.ROLE_USER)
+                     .region(region)
+                     .isActive(true)
+                     .build();
+    }
+}
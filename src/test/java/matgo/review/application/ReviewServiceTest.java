@@ -9,16 +9,26 @@ import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import matgo.common.BaseServiceTest;
+import matgo.global.reaction.ReactionChange;
+import matgo.global.reaction.ReactionTarget;
+import matgo.global.reaction.dto.MyReactionResponse;
 import matgo.global.type.Reaction;
 import matgo.global.type.S3Directory;
 import matgo.member.domain.entity.Member;
@@ -26,10 +36,10 @@ import matgo.member.domain.entity.Region;
 import matgo.member.domain.type.UserRole;
 import matgo.member.dto.response.MemberResponse;
 import matgo.restaurant.domain.entity.Restaurant;
+import matgo.restaurant.domain.entity.RestaurantSearchOutbox;
 import matgo.restaurant.dto.response.RestaurantResponse;
 import matgo.restaurant.exception.RestaurantException;
 import matgo.review.domain.entity.Review;
-import matgo.review.domain.entity.ReviewReaction;
 import matgo.review.dto.request.ReviewCreateRequest;
 import matgo.review.dto.response.ReviewCreateResponse;
 import matgo.review.dto.response.ReviewDetailResponse;
@@ -104,8 +114,6 @@ class ReviewServiceTest extends BaseServiceTest {
             doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
             doReturn("mocked_url").when(s3Service)
                                   .uploadAndGetImageURL(any(MultipartFile.class), eq(S3Directory.REVIEW));
-            doNothing().when(restaurantSearchRepositoryImpl)
-                       .updateRatingAndReviewCount(any(String.class), any(Double.class), any(Integer.class));
             Review review = ReviewCreateRequest.toEntity(member, restaurant, reviewCreateRequest, "mocked_url");
             doReturn(review).when(reviewRepository).save(any(Review.class));
 
@@ -114,11 +122,11 @@ class ReviewServiceTest extends BaseServiceTest {
               reviewCreateRequest, reviewImage);
 
             // then
-            assertSoftly(softly -> {
-                softly.assertThat(restaurant.getRating()).isEqualTo(5.0);
-                softly.assertThat(restaurant.getReviewCount()).isEqualTo(1);
-                softly.assertThat(reviewCreateResponse.reviewId()).isEqualTo(review.getId());
-            });
+            assertSoftly(softly -> softly.assertThat(reviewCreateResponse.reviewId()).isEqualTo(review.getId()));
+            verify(restaurantRepository, times(1)).addReviewRating(restaurant.getId(), 5);
+            verify(restaurantSearchOutboxRepository, times(1)).save(any(RestaurantSearchOutbox.class));
+            verify(restaurantDetailCache, times(1)).evict(restaurant.getId());
+            verify(reviewSliceCache, times(1)).evict(restaurant.getId());
         }
 
         @Test
@@ -173,7 +181,7 @@ class ReviewServiceTest extends BaseServiceTest {
                                                        .findReviewResponseByIdWithMemberAndRestaurant(anyLong());
 
             // when
-            ReviewDetailResponse reviewDetail = reviewService.getReviewDetail(1L);
+            ReviewDetailResponse reviewDetail = reviewService.getReviewDetail(null, 1L);
 
             // then
             assertSoftly(softly -> {
@@ -184,6 +192,25 @@ class ReviewServiceTest extends BaseServiceTest {
 
         }
 
+        @Test
+        @DisplayName("로그인한 회원이 리뷰 상세를 조회하면 내 반응을 함께 반환한다.")
+        void getReviewDetailWithMyReaction() {
+            // given
+            doReturn(Optional.of(reviewDetailResponse)).when(reviewQueryRepository)
+                                                       .findReviewResponseByIdWithMemberAndRestaurant(1L);
+            doReturn(Optional.of(Reaction.LIKE)).when(reactionQueryRepository)
+                                                .findReaction(ReactionTarget.REVIEW, 1L, 2L);
+
+            // when
+            ReviewDetailResponse reviewDetail = reviewService.getReviewDetail(2L, 1L);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(reviewDetail.review()).isEqualTo(reviewResponse);
+                softly.assertThat(reviewDetail.myReaction()).isEqualTo(Reaction.LIKE);
+            });
+        }
+
         @Test
         @DisplayName("리뷰 상세 조회에 실패하면 ReviewException을 던진다.")
         void getReviewDetailFail() {
@@ -192,7 +219,7 @@ class ReviewServiceTest extends BaseServiceTest {
               anyLong());
 
             // when & then
-            assertThatThrownBy(() -> reviewService.getReviewDetail(1L))
+            assertThatThrownBy(() -> reviewService.getReviewDetail(null, 1L))
               .isInstanceOf(ReviewException.class)
               .hasMessageContaining(NOT_FOUND_REVIEW.getMessage());
         }
@@ -208,11 +235,13 @@ class ReviewServiceTest extends BaseServiceTest {
             );
             ReviewSliceResponse reviewSliceResponse = new ReviewSliceResponse(reviewResponses, false);
 
-            doReturn(reviewSliceResponse).when(reviewQueryRepository).findAllReviewSliceByRestaurantId(anyLong(),
-              any(PageRequest.class));
+            doAnswer(invocation -> invocation.<Supplier<ReviewSliceResponse>>getArgument(3).get())
+              .when(reviewSliceCache).get(eq(1L), eq(pageRequest), isNull(), any());
+            doReturn(reviewSliceResponse).when(reviewQueryRepository)
+                                         .findAllReviewSliceByRestaurantId(1L, pageRequest, null);
 
             // when
-            ReviewSliceResponse reviews = reviewService.getReviews(1L, pageRequest);
+            ReviewSliceResponse reviews = reviewService.getReviews(null, 1L, pageRequest, null);
 
             // then
             assertSoftly(softly -> {
@@ -220,94 +249,172 @@ class ReviewServiceTest extends BaseServiceTest {
                 softly.assertThat(reviews.hasNext()).isFalse();
             });
         }
+
+        @Test
+        @DisplayName("cursor 로 조회하면 ReviewSliceCache 를 거쳐서 조회한다.")
+        void getReviewsWithCursorSuccess() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 2);
+            ReviewSliceResponse reviewSliceResponse = new ReviewSliceResponse(
+              List.of(new ReviewDetailResponse(reviewResponse, memberResponse, restaurantResponse)), false);
+            doAnswer(invocation -> invocation.<Supplier<ReviewSliceResponse>>getArgument(3).get())
+              .when(reviewSliceCache).get(eq(1L), eq(pageRequest), eq("cursor"), any());
+            doReturn(reviewSliceResponse).when(reviewQueryRepository)
+                                         .findAllReviewSliceByRestaurantId(1L, pageRequest, "cursor");
+
+            // when
+            ReviewSliceResponse reviews = reviewService.getReviews(null, 1L, pageRequest, "cursor");
+
+            // then
+            assertSoftly(softly -> softly.assertThat(reviews).isEqualTo(reviewSliceResponse));
+            verify(reactionQueryRepository, never()).findReactions(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("로그인한 회원이 조회하면 목록에 있는 리뷰에 대한 내 반응을 한 번에 조회해서 채운다.")
+        void getReviewsWithMyReactionSuccess() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 2);
+            ReviewSliceResponse reviewSliceResponse = new ReviewSliceResponse(List.of(
+              new ReviewDetailResponse(reviewResponse, memberResponse, restaurantResponse),
+              new ReviewDetailResponse(reviewResponse2, memberResponse, restaurantResponse)
+            ), false);
+            doReturn(reviewSliceResponse).when(reviewSliceCache).get(eq(1L), eq(pageRequest), eq(null), any());
+            doReturn(Map.of(2L, Reaction.DISLIKE)).when(reactionQueryRepository)
+                                                  .findReactions(ReactionTarget.REVIEW, List.of(1L, 2L),
+                                                    member.getId());
+
+            // when
+            ReviewSliceResponse reviews = reviewService.getReviews(member.getId(), 1L, pageRequest, null);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(reviews.reviews().get(0).myReaction()).isNull();
+                softly.assertThat(reviews.reviews().get(1).myReaction()).isEqualTo(Reaction.DISLIKE);
+            });
+        }
     }
 
     @Nested
     @DisplayName("addReviewReaction 메서드는")
     class AddReviewReactionTest {
 
-        Review review = Review.builder()
-                              .id(1L)
-                              .content("맛있어요")
-                              .rating(5)
-                              .imageUrl("mocked_url")
-                              .likeCount(0)
-                              .dislikeCount(0)
-                              .restaurant(restaurant)
-                              .reviewReactions(new ArrayList<>())
-                              .build();
+        Long reviewId = 1L;
 
         @Test
         @DisplayName("리뷰에 좋아요 누르면 리뷰의 좋아요 수를 1 증가시킨다.")
         void addReviewReactionSuccess() {
             // given
-            doReturn(Optional.of(review)).when(reviewRepository).findById(anyLong());
-            doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
-            doReturn(null).when(reviewRepository).save(any(Review.class));
-            doReturn(null).when(reviewReactionRepository).save(any());
+            doReturn(true).when(reviewRepository).existsById(reviewId);
+            doReturn(true).when(memberRepository).existsById(member.getId());
+            doReturn(ReactionChange.added(Reaction.LIKE)).when(reactionCommandRepository)
+                                                         .toggle(ReactionTarget.REVIEW, reviewId, member.getId(),
+                                                           Reaction.LIKE);
 
             // when
-            reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+            reviewService.addReviewReaction(member.getId(), reviewId, Reaction.LIKE);
 
             // then
-            assertSoftly(softly -> {
-                softly.assertThat(review.getLikeCount()).isEqualTo(1);
-                softly.assertThat(review.getDislikeCount()).isEqualTo(0);
-            });
+            verify(reactionCountBuffer, times(1)).add(ReactionTarget.REVIEW, reviewId,
+              ReactionChange.added(Reaction.LIKE));
         }
 
         @Test
         @DisplayName("이미 좋아요 누른 상태에서 다시 좋아요 누르면 리뷰의 좋아요 수를 1 감소시킨다.")
         void addReviewReactionSuccess2() {
             // given
-            ReviewReaction reviewReaction = ReviewReaction.builder()
-                                                          .member(member)
-                                                          .review(review)
-                                                          .reaction(Reaction.LIKE)
-                                                          .build();
-            review.addReviewReaction(reviewReaction);
-            review.increaseLikeCount();
-
-            doReturn(Optional.of(review)).when(reviewRepository).findById(anyLong());
-            doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
-            doReturn(null).when(reviewRepository).save(any(Review.class));
-            doNothing().when(reviewReactionRepository).delete(any());
+            doReturn(true).when(reviewRepository).existsById(reviewId);
+            doReturn(true).when(memberRepository).existsById(member.getId());
+            doReturn(ReactionChange.cancelled(Reaction.LIKE)).when(reactionCommandRepository)
+                                                             .toggle(ReactionTarget.REVIEW, reviewId, member.getId(),
+                                                               Reaction.LIKE);
 
             // when
-            reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+            reviewService.addReviewReaction(member.getId(), reviewId, Reaction.LIKE);
 
             // then
-            assertSoftly(softly -> {
-                softly.assertThat(review.getLikeCount()).isEqualTo(0);
-                softly.assertThat(review.getDislikeCount()).isEqualTo(0);
-            });
+            verify(reactionCountBuffer, times(1)).add(ReactionTarget.REVIEW, reviewId,
+              ReactionChange.cancelled(Reaction.LIKE));
         }
 
         @Test
         @DisplayName("이미 좋아요 누른 상태에서 싫어요를 누르면 리뷰의 좋아요 수를 1 감소시키고 싫어요 수를 1 증가시킨다.")
         void addReviewReactionSuccess3() {
             // given
-            ReviewReaction reviewReaction = ReviewReaction.builder()
-                                                          .member(member)
-                                                          .review(review)
-                                                          .reaction(Reaction.LIKE)
-                                                          .build();
-            review.addReviewReaction(reviewReaction);
-            review.increaseLikeCount();
-
-            doReturn(Optional.of(review)).when(reviewRepository).findById(anyLong());
-            doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
-            doReturn(null).when(reviewRepository).save(any(Review.class));
+            doReturn(true).when(reviewRepository).existsById(reviewId);
+            doReturn(true).when(memberRepository).existsById(member.getId());
+            doReturn(ReactionChange.switchedTo(Reaction.DISLIKE)).when(reactionCommandRepository)
+                                                                 .toggle(ReactionTarget.REVIEW, reviewId,
+                                                                   member.getId(), Reaction.DISLIKE);
 
             // when
-            reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.DISLIKE);
+            reviewService.addReviewReaction(member.getId(), reviewId, Reaction.DISLIKE);
 
             // then
-            assertSoftly(softly -> {
-                softly.assertThat(review.getLikeCount()).isEqualTo(0);
-                softly.assertThat(review.getDislikeCount()).isEqualTo(1);
-                softly.assertThat(reviewReaction.getReaction()).isEqualTo(Reaction.DISLIKE);
-            });
+            verify(reactionCountBuffer, times(1)).add(ReactionTarget.REVIEW, reviewId,
+              ReactionChange.switchedTo(Reaction.DISLIKE));
+        }
+
+        @Test
+        @DisplayName("리뷰가 없으면 ReviewException을 던진다.")
+        void addReviewReactionFailBecauseNotFoundReview() {
+            // given
+            doReturn(false).when(reviewRepository).existsById(reviewId);
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.addReviewReaction(member.getId(), reviewId, Reaction.LIKE))
+              .isInstanceOf(ReviewException.class)
+              .hasMessageContaining(NOT_FOUND_REVIEW.getMessage());
+            verify(reactionCommandRepository, never()).toggle(any(), anyLong(), anyLong(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getMyReviewReaction 메서드는")
+    class GetMyReviewReactionTest {
+
+        Long reviewId = 1L;
+
+        @Test
+        @DisplayName("리뷰에 남긴 내 반응을 조회한다.")
+        void getMyReviewReactionSuccess() {
+            // given
+            doReturn(true).when(reviewRepository).existsById(reviewId);
+            doReturn(Optional.of(Reaction.LIKE)).when(reactionQueryRepository)
+                                                .findReaction(ReactionTarget.REVIEW, reviewId, member.getId());
+
+            // when
+            MyReactionResponse response = reviewService.getMyReviewReaction(member.getId(), reviewId);
+
+            // then
+            assertSoftly(softly -> softly.assertThat(response.reaction()).isEqualTo(Reaction.LIKE));
+        }
+
+        @Test
+        @DisplayName("반응이 없으면 reaction 이 null 이다.")
+        void getMyReviewReactionSuccessWithoutReaction() {
+            // given
+            doReturn(true).when(reviewRepository).existsById(reviewId);
+            doReturn(Optional.empty()).when(reactionQueryRepository)
+                                      .findReaction(ReactionTarget.REVIEW, reviewId, member.getId());
+
+            // when
+            MyReactionResponse response = reviewService.getMyReviewReaction(member.getId(), reviewId);
+
+            // then
+            assertSoftly(softly -> softly.assertThat(response.reaction()).isNull());
+        }
+
+        @Test
+        @DisplayName("리뷰가 없으면 ReviewException을 던진다.")
+        void getMyReviewReactionFailBecauseNotFoundReview() {
+            // given
+            doReturn(false).when(reviewRepository).existsById(reviewId);
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.getMyReviewReaction(member.getId(), reviewId))
+              .isInstanceOf(ReviewException.class)
+              .hasMessageContaining(NOT_FOUND_REVIEW.getMessage());
         }
     }
 
@@ -332,30 +439,25 @@ class ReviewServiceTest extends BaseServiceTest {
         @DisplayName("리뷰 삭제에 성공하면 restaurant의 rating과 reviewCount를 업데이트한다.")
         void deleteReviewSuccess() {
             // given
-            restaurant.addReview(review);
-            doReturn(Optional.of(review)).when(reviewQueryRepository).findByIdWithReactions(anyLong(), anyLong());
+            doReturn(Optional.of(review)).when(reviewQueryRepository).findByIdAndRestaurantId(anyLong(), anyLong());
             doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
             doReturn(true).when(reviewRepository).existsByIdAndMemberId(anyLong(), anyLong());
-            doReturn(Optional.of(restaurant)).when(restaurantRepository).findById(anyLong());
+            doReturn(true).when(restaurantRepository).existsById(anyLong());
             doNothing().when(reviewRepository).delete(any(Review.class));
-            doNothing().when(restaurantSearchRepositoryImpl)
-                       .updateRatingAndReviewCount(any(String.class), any(Double.class), any(Integer.class));
 
             // when
             reviewService.deleteReview(member.getId(), restaurant.getId(), review.getId());
 
             // then
-            assertSoftly(softly -> {
-                softly.assertThat(restaurant.getRating()).isEqualTo(0.0);
-                softly.assertThat(restaurant.getReviewCount()).isEqualTo(0);
-            });
+            verify(restaurantRepository, times(1)).removeReviewRating(restaurant.getId(), 5);
+            verify(reactionCommandRepository, times(1)).deleteAll(ReactionTarget.REVIEW, review.getId());
         }
 
         @Test
         @DisplayName("review가 존재하지 않으면 ReviewException을 던진다.")
         void deleteReviewFailBecauseNotFoundReview() {
             // given
-            doReturn(Optional.empty()).when(reviewQueryRepository).findByIdWithReactions(anyLong(), anyLong());
+            doReturn(Optional.empty()).when(reviewQueryRepository).findByIdAndRestaurantId(anyLong(), anyLong());
 
             // when & then
             assertThatThrownBy(() -> reviewService.deleteReview(member.getId(), restaurant.getId(), review.getId()))
@@ -367,7 +469,7 @@ class ReviewServiceTest extends BaseServiceTest {
         @DisplayName("리뷰 작성자가 아니면 ReviewException을 던진다.")
         void deleteReviewFailBecauseNotWriter() {
             // given
-            doReturn(Optional.of(review)).when(reviewQueryRepository).findByIdWithReactions(anyLong(), anyLong());
+            doReturn(Optional.of(review)).when(reviewQueryRepository).findByIdAndRestaurantId(anyLong(), anyLong());
             doReturn(Optional.of(member)).when(memberRepository).findById(anyLong());
             doReturn(false).when(reviewRepository).existsByIdAndMemberId(anyLong(), anyLong());
 
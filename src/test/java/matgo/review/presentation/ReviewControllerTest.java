@@ -3,17 +3,14 @@ package matgo.review.presentation;
 import static matgo.review.presentation.ReviewDocument.addReviewReactionDocument;
 import static matgo.review.presentation.ReviewDocument.createReviewDocument;
 import static matgo.review.presentation.ReviewDocument.deleteReviewDocument;
+import static matgo.review.presentation.ReviewDocument.getMyReviewReactionDocument;
 import static matgo.review.presentation.ReviewDocument.getMyReviewsDocument;
 import static matgo.review.presentation.ReviewDocument.getReviewDetailDocument;
 import static matgo.review.presentation.ReviewDocument.getReviewsDocument;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyDouble;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 
 import io.restassured.builder.MultiPartSpecBuilder;
@@ -66,7 +63,6 @@ class ReviewControllerTest extends BaseControllerTest {
     @DisplayName("[성공]리뷰 작성")
     void createReview_success() {
         // given
-        doNothing().when(restaurantSearchRepositoryImpl).updateRatingAndReviewCount(anyString(), anyDouble(), anyInt());
         Long restaurantId = 1L;
         MultiPartSpecBuilder request = new MultiPartSpecBuilder(reviewCreateRequest);
         request.charset("UTF-8");
@@ -123,6 +119,36 @@ class ReviewControllerTest extends BaseControllerTest {
         assertThat(response.statusCode()).isEqualTo(204);
     }
 
+    @Test
+    @DisplayName("[성공]리뷰 내 좋아요/싫어요 조회")
+    void getMyReviewReaction_success() {
+        // given
+        Review review = Review.builder()
+                              .content("리뷰")
+                              .rating(5)
+                              .imageUrl("mocked_url")
+                              .revisit(true)
+                              .likeCount(0)
+                              .dislikeCount(0)
+                              .member(member)
+                              .restaurant(restaurant)
+                              .build();
+        Long reviewId = reviewRepository.save(review).getId();
+
+        // when
+        Response response = customGivenWithDocs(getMyReviewReactionDocument())
+          .contentType(ContentType.JSON)
+          .pathParam("reviewId", reviewId)
+          .header("Authorization", "Bearer " + accessToken)
+          .get("/api/reviews/{reviewId}/reactions/me", reviewId);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.jsonPath().getString("reaction")).isNull();
+        });
+    }
+
     @Test
     @DisplayName("[성공]리뷰 조회(페이징)")
     void getReviews_success() {
@@ -157,6 +183,68 @@ class ReviewControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("[성공]리뷰 조회(cursor) - 같은 평점은 id 로 순서를 고정해서 이어서 조회한다.")
+    void getReviews_cursor_success() {
+        // given
+        Long restaurantId = 1L;
+        for (int rating : new int[]{5, 5, 3}) {
+            reviewRepository.save(Review.builder()
+                                        .content("리뷰")
+                                        .rating(rating)
+                                        .imageUrl("mocked_url")
+                                        .revisit(true)
+                                        .likeCount(0)
+                                        .dislikeCount(0)
+                                        .member(member)
+                                        .restaurant(restaurant)
+                                        .build());
+        }
+
+        // when
+        Response firstPage = customGiven()
+          .contentType(ContentType.JSON)
+          .queryParam("page", 0)
+          .queryParam("size", 2)
+          .queryParam("direction", Direction.DESC)
+          .queryParam("sortBy", "rating")
+          .get("/api/reviews/{restaurantId}", restaurantId);
+        String nextCursor = firstPage.body().jsonPath().getString("nextCursor");
+
+        Response secondPage = customGiven()
+          .contentType(ContentType.JSON)
+          .queryParam("cursor", nextCursor)
+          .queryParam("page", 0)
+          .queryParam("size", 2)
+          .queryParam("direction", Direction.DESC)
+          .queryParam("sortBy", "rating")
+          .get("/api/reviews/{restaurantId}", restaurantId);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(firstPage.body().jsonPath().getList("reviews.review.rating")).containsExactly(5, 5);
+            softly.assertThat(firstPage.body().jsonPath().getBoolean("hasNext")).isTrue();
+            softly.assertThat(secondPage.body().jsonPath().getList("reviews.review.rating")).containsExactly(3);
+            softly.assertThat(secondPage.body().jsonPath().getBoolean("hasNext")).isFalse();
+            softly.assertThat(secondPage.body().jsonPath().getString("nextCursor")).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("[실패]리뷰 조회(cursor) - 정렬 조건과 맞지 않는 cursor")
+    void getReviews_cursor_fail_invalid_cursor() {
+        // when
+        Response response = customGiven()
+          .contentType(ContentType.JSON)
+          .queryParam("cursor", "invalid")
+          .queryParam("page", 0)
+          .queryParam("size", 2)
+          .get("/api/reviews/{restaurantId}", 1L);
+
+        // then
+        assertSoftly(softly -> softly.assertThat(response.statusCode()).isEqualTo(400));
+    }
+
     @Test
     @DisplayName("[성공]리뷰 상세 보기")
     void getReview_success() {
@@ -188,11 +276,40 @@ class ReviewControllerTest extends BaseControllerTest {
         });
     }
 
+    @Test
+    @DisplayName("[성공]리뷰 상세 보기 - 로그인했으면 내 반응을 함께 반환")
+    void getReview_success_with_my_reaction() {
+        // given
+        Review review = reviewRepository.save(Review.builder()
+                                                    .content("리뷰")
+                                                    .rating(5)
+                                                    .imageUrl("mocked_url")
+                                                    .revisit(true)
+                                                    .likeCount(0)
+                                                    .dislikeCount(0)
+                                                    .member(member)
+                                                    .restaurant(restaurant)
+                                                    .build());
+        reviewService.addReviewReaction(member.getId(), review.getId(), Reaction.LIKE);
+
+        // when
+        Response response = customGiven()
+          .header("Authorization", "Bearer " + accessToken)
+          .contentType(ContentType.JSON)
+          .get("/api/reviews/detail/{reviewId}", review.getId());
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.statusCode()).isEqualTo(200);
+            softly.assertThat(response.body().jsonPath().getString("myReaction")).isEqualTo("LIKE");
+            softly.assertThat(response.body().jsonPath().getInt("review.likeCount")).isEqualTo(1);
+        });
+    }
+
     @Test
     @DisplayName("[성공]리뷰 삭제")
     void deleteReview_success() {
         // given
-        doNothing().when(restaurantSearchRepositoryImpl).updateRatingAndReviewCount(anyString(), anyDouble(), anyInt());
         Long restaurantId = 1L;
         Long reviewId = 1L;
         Review review = Review.builder()
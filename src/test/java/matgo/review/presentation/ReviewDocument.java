@@ -45,10 +45,20 @@ public class ReviewDocument {
         );
     }
 
+    public static RestDocumentationFilter getMyReviewReactionDocument() {
+        return document("리뷰 내 좋아요/싫어요 조회",
+          resourceDetails().tag("Review").description("리뷰에 남긴 내 좋아요/싫어요 조회 (없으면 null)"),
+          pathParameters(
+            parameterWithName("reviewId").description("리뷰 아이디")
+          )
+        );
+    }
+
     public static RestDocumentationFilter getReviewsDocument() {
         return document("리뷰 조회(페이징)",
           resourceDetails().tag("Review").description("리뷰 조회(페이징)"),
           queryParameters(
+            parameterWithName("cursor").description("다음 페이지 커서 (없으면 page 로 조회)").optional(),
             parameterWithName("page").description("페이지 번호"),
             parameterWithName("size").description("페이지 크기"),
             parameterWithName("direction").description("정렬 방향(DESC,ASC)").optional(),